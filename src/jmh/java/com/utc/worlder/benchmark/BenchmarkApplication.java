@@ -0,0 +1,78 @@
+package com.utc.worlder.benchmark;
+
+import com.utc.worlder.WorlderApplication;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import com.utc.worlder.service.CountryService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application without a web server against a fresh SQLite file holding the seed rows
+ * plus synthetic countries up to the requested dataset size.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int datasetSize) {
+        Path database = Path.of("build", "jmh", "countries-" + datasetSize + ".db");
+        try {
+            Files.createDirectories(database.getParent());
+            Files.deleteIfExists(database);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WorlderApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:sqlite:" + database,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        CountryRepository repository = context.getBean(CountryRepository.class);
+        int missing = datasetSize - (int) repository.count();
+        if (missing > 0) {
+            repository.saveAll(syntheticCountries(missing));
+        }
+        context.getBean(CountryService.class).refreshSnapshot();
+        return context;
+    }
+
+    static List<Country> syntheticCountries(int count) {
+        String[] continents = {"Europe", "Asia", "Africa", "North America", "South America", "Oceania"};
+        List<Country> countries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Country country = new Country(
+                    "Synthetic " + i,
+                    syntheticIsoCode(i),
+                    "Capital " + i,
+                    continents[i % continents.length],
+                    1_000L + (i * 7_919L) % 1_500_000_000L,
+                    10.0 + (i * 104_729.0) % 17_000_000.0,
+                    "Currency " + (i % 150),
+                    "Language " + (i % 120));
+            country.setLatitude(-60.0 + (i * 7.31) % 130.0);
+            country.setLongitude(-180.0 + (i * 13.77) % 360.0);
+            countries.add(country);
+        }
+        return countries;
+    }
+
+    // A leading digit keeps synthetic codes clear of real ISO 3166 alpha-3 codes.
+    static String syntheticIsoCode(int index) {
+        String base36 = Integer.toString(index % 36, 36) + Integer.toString((index / 36) % 36, 36);
+        return Integer.toString((index / 1296) % 10) + base36.toUpperCase();
+    }
+}
@@ -0,0 +1,59 @@
+package com.utc.worlder.benchmark;
+
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountryRepositoryBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+
+    private CountryRepository countryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(datasetSize);
+        countryRepository = context.getBean(CountryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Country> findAll() {
+        return countryRepository.findAll();
+    }
+
+    @Benchmark
+    public List<String> findAllContinents() {
+        return countryRepository.findAllContinents();
+    }
+
+    @Benchmark
+    public Optional<Country> findByIsoCode() {
+        return countryRepository.findByIsoCode("FRA");
+    }
+
+    @Benchmark
+    public List<Country> findCountriesWithPopulationGreaterThan() {
+        return countryRepository.findCountriesWithPopulationGreaterThan(100_000_000L);
+    }
+
+    @Benchmark
+    public List<Country> findCountriesWithAreaGreaterThan() {
+        return countryRepository.findCountriesWithAreaGreaterThan(1_000_000.0);
+    }
+}
@@ -0,0 +1,39 @@
+package com.utc.worlder.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utc.worlder.entity.Country;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountrySerializationBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    private int datasetSize;
+
+    private ObjectMapper objectMapper;
+
+    private List<Country> countries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        countries = BenchmarkApplication.syntheticCountries(datasetSize);
+    }
+
+    @Benchmark
+    public byte[] serializeCountryList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public byte[] serializeSingleCountry() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(countries.get(0));
+    }
+}
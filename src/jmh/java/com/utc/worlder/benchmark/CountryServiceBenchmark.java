@@ -0,0 +1,81 @@
+package com.utc.worlder.benchmark;
+
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.service.CountryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CountryServiceBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+
+    private CountryService countryService;
+
+    private Long knownId;
+
+    private String knownIsoCode;
+
+    private String knownName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(datasetSize);
+        countryService = context.getBean(CountryService.class);
+
+        List<Country> countries = countryService.getAllCountries();
+        Country middle = countries.get(countries.size() / 2);
+        knownId = middle.getId();
+        knownIsoCode = middle.getIsoCode();
+        knownName = middle.getName();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Country> getCountryById() {
+        return countryService.getCountryById(knownId);
+    }
+
+    @Benchmark
+    public Optional<Country> getCountryByIsoCode() {
+        return countryService.getCountryByIsoCode(knownIsoCode);
+    }
+
+    @Benchmark
+    public Optional<Country> getCountryByName() {
+        return countryService.getCountryByName(knownName);
+    }
+
+    @Benchmark
+    public List<Country> getCountriesWithPopulationGreaterThan() {
+        return countryService.getCountriesWithPopulationGreaterThan(100_000_000L);
+    }
+
+    @Benchmark
+    public List<Country> getCountriesWithPopulationBetween() {
+        return countryService.getCountriesWithPopulationBetween(10_000_000L, 50_000_000L);
+    }
+
+    @Benchmark
+    public List<Country> getCountriesWithAreaGreaterThan() {
+        return countryService.getCountriesWithAreaGreaterThan(1_000_000.0);
+    }
+
+    @Benchmark
+    public List<String> getAllContinents() {
+        return countryService.getAllContinents();
+    }
+}
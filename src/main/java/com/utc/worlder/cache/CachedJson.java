@@ -0,0 +1,32 @@
+package com.utc.worlder.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once, kept as UTF-8 bytes and, for bodies worth compressing, as gzip bytes.
+ */
+public record CachedJson(long version, byte[] identity, byte[] gzip) {
+
+    private static final int MIN_GZIP_SIZE = 1024;
+
+    static CachedJson of(long version, byte[] identity) {
+        return new CachedJson(version, identity, identity.length >= MIN_GZIP_SIZE ? gzip(identity) : null);
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
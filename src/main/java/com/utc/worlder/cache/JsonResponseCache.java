@@ -0,0 +1,89 @@
+package com.utc.worlder.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utc.worlder.concurrent.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Ready-made JSON payloads per endpoint and parameter. Entries are tagged with the dataset version they
+ * were built from, so a write invalidates every entry without the cache having to be told about it, and
+ * storing the first entry of a newer version drops the older ones. Callers keep keys to a bounded set;
+ * past {@code MAX_ENTRIES} new keys are served but not stored.
+ */
+@Component
+public class JsonResponseCache {
+    
+    private static final int MAX_ENTRIES = 256;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final ConcurrentMap<String, CachedJson> entries = new ConcurrentHashMap<>();
+    
+    private final LongAdder hits = new LongAdder();
+    
+    private final LongAdder misses = new LongAdder();
+    
+    private final SingleFlight<CacheKey, CachedJson> builds = new SingleFlight<>();
+    
+    @Autowired
+    public JsonResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    public CachedJson get(String key, long version, Supplier<?> valueSupplier) {
+        CachedJson cached = entries.get(key);
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+            return cached;
+        }
+        
+        misses.increment();
+        return builds.execute(new CacheKey(key, version), () -> {
+            CachedJson fresh = CachedJson.of(version, serialize(valueSupplier.get()));
+            if (cached != null || entries.size() < MAX_ENTRIES) {
+                entries.merge(key, fresh, (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+            }
+            entries.values().removeIf(entry -> entry.version() < version);
+            return fresh;
+        });
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public void clear() {
+        entries.clear();
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public long getCoalescedCount() {
+        return builds.getCoalescedCount();
+    }
+    
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private record CacheKey(String key, long version) {
+    }
+}
\ No newline at end of file
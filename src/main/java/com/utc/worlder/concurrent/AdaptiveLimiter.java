@@ -0,0 +1,83 @@
+package com.utc.worlder.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limit. Each request that completes within the latency threshold while the limit is
+ * actually in use grows the limit by {@code 1/limit} (about +1 per full window of requests); a slow or
+ * failed request shrinks it by {@code backoffRatio}. Callers over the limit are rejected immediately
+ * instead of queueing.
+ */
+public final class AdaptiveLimiter {
+    
+    private final int minLimit;
+    
+    private final int maxLimit;
+    
+    private final long latencyThresholdNanos;
+    
+    private final double backoffRatio;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private final LongAdder rejected = new LongAdder();
+    
+    private final ReentrantLock limitLock = new ReentrantLock();
+    
+    private volatile double limit;
+    
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("expected 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+    
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+    
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        limitLock.lock();
+        try {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightBeforeRelease * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            limitLock.unlock();
+        }
+    }
+    
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
\ No newline at end of file
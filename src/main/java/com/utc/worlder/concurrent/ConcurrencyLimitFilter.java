@@ -0,0 +1,181 @@
+package com.utc.worlder.concurrent;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds load on the country and game APIs before it reaches Tomcat's worker queue or the SQLite pools.
+ * Reads and writes have separate limits because they contend on different pools (many readers, one writer).
+ * Whole-dataset requests (bulk ingest, upsert and patch, and the export) run for seconds to minutes by
+ * design, so they get a third limit of their own instead of teaching the others that the service is slow.
+ * A request that goes async keeps its slot until the async work completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    
+    private static final String COUNTRY_API_PREFIX = "/api/countries";
+    
+    // Game endpoints are POSTs but only read the in-memory snapshot.
+    private static final String GAME_API_PREFIX = "/api/game";
+    
+    private final boolean enabled;
+    
+    private final AdaptiveLimiter readLimiter;
+    
+    private final AdaptiveLimiter writeLimiter;
+    
+    private final AdaptiveLimiter bulkLimiter;
+    
+    private final String retryAfterSeconds;
+    
+    @Autowired
+    public ConcurrencyLimitFilter(@Value("${worlder.limiter.enabled:true}") boolean enabled,
+                                  @Value("${worlder.limiter.read.initial-limit:64}") int readInitialLimit,
+                                  @Value("${worlder.limiter.read.min-limit:8}") int readMinLimit,
+                                  @Value("${worlder.limiter.read.max-limit:1024}") int readMaxLimit,
+                                  @Value("${worlder.limiter.read.latency-threshold-ms:250}") long readLatencyThresholdMs,
+                                  @Value("${worlder.limiter.write.initial-limit:8}") int writeInitialLimit,
+                                  @Value("${worlder.limiter.write.min-limit:1}") int writeMinLimit,
+                                  @Value("${worlder.limiter.write.max-limit:64}") int writeMaxLimit,
+                                  @Value("${worlder.limiter.write.latency-threshold-ms:1000}") long writeLatencyThresholdMs,
+                                  @Value("${worlder.limiter.bulk.initial-limit:2}") int bulkInitialLimit,
+                                  @Value("${worlder.limiter.bulk.min-limit:1}") int bulkMinLimit,
+                                  @Value("${worlder.limiter.bulk.max-limit:4}") int bulkMaxLimit,
+                                  @Value("${worlder.limiter.bulk.latency-threshold-ms:600000}") long bulkLatencyThresholdMs,
+                                  @Value("${worlder.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${worlder.limiter.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.enabled = enabled;
+        this.readLimiter = new AdaptiveLimiter(readInitialLimit, readMinLimit, readMaxLimit,
+                Duration.ofMillis(readLatencyThresholdMs), backoffRatio);
+        this.writeLimiter = new AdaptiveLimiter(writeInitialLimit, writeMinLimit, writeMaxLimit,
+                Duration.ofMillis(writeLatencyThresholdMs), backoffRatio);
+        this.bulkLimiter = new AdaptiveLimiter(bulkInitialLimit, bulkMinLimit, bulkMaxLimit,
+                Duration.ofMillis(bulkLatencyThresholdMs), backoffRatio);
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return !enabled || !(path.startsWith(COUNTRY_API_PREFIX) || path.startsWith(GAME_API_PREFIX));
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveLimiter limiter = limiterFor(request);
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start));
+                async = true;
+            }
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - start, failed);
+            }
+        }
+    }
+    
+    public AdaptiveLimiter getReadLimiter() {
+        return readLimiter;
+    }
+    
+    public AdaptiveLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+    
+    public AdaptiveLimiter getBulkLimiter() {
+        return bulkLimiter;
+    }
+    
+    private AdaptiveLimiter limiterFor(HttpServletRequest request) {
+        String path = pathOf(request);
+        String method = request.getMethod();
+        if (path.equals(COUNTRY_API_PREFIX + "/export")
+                || (path.equals(COUNTRY_API_PREFIX + "/batch") && (HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)))
+                || (path.equals(COUNTRY_API_PREFIX) && HttpMethod.PATCH.matches(method))) {
+            return bulkLimiter;
+        }
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || path.startsWith(GAME_API_PREFIX)) {
+            return readLimiter;
+        }
+        return writeLimiter;
+    }
+    
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+    
+    /**
+     * Releases the slot of a request that went async once it completes; a timeout or error counts as a failure.
+     */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+        
+        private final AdaptiveLimiter limiter;
+        
+        private final long start;
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private volatile boolean failed;
+        
+        private ReleaseOnCompletion(AdaptiveLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            boolean serverError = event.getSuppliedResponse() instanceof HttpServletResponse response
+                    && response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, failed || serverError);
+            }
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Keep listening if the request goes async again.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.utc.worlder.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+    
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.utc.worlder.config;
+
+import com.utc.worlder.service.CountryService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Tags country GET responses with the dataset version and answers matching {@code If-None-Match}
+ * requests with 304 before the handler (and therefore the repository or Jackson) runs. The tag is weak
+ * because the identity and gzip bodies of one version share it.
+ */
+@Component
+public class DatasetETagInterceptor implements HandlerInterceptor {
+    
+    private final CountryService countryService;
+    
+    @Autowired
+    public DatasetETagInterceptor(CountryService countryService) {
+        this.countryService = countryService;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        
+        String etag = datasetETag(countryService.getDatasetVersion());
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+    
+    public static String datasetETag(long version) {
+        return "W/\"" + version + "\"";
+    }
+}
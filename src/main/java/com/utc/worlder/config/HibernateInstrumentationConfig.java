@@ -0,0 +1,20 @@
+package com.utc.worlder.config;
+
+import com.utc.worlder.metrics.HibernateTimingListener;
+import com.utc.worlder.metrics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateInstrumentationConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer requestTimingHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateTimingListener.class.getName());
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.utc.worlder.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+
+import javax.sql.DataSource;
+
+/**
+ * SQLite allows one writer at a time, so writes go through a single dedicated connection in WAL mode
+ * while {@code @Transactional(readOnly = true)} work is routed to a pool of read-only connections.
+ * Routing happens on the first statement, once the transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnProperty(name = "worlder.sqlite.routing.enabled", havingValue = "true")
+public class SqliteDataSourceConfig {
+    
+    private final DataSourceProperties properties;
+    
+    private final int busyTimeoutMs;
+    
+    private final long mmapSize;
+    
+    private final long connectionTimeoutMs;
+    
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    @Autowired
+    public SqliteDataSourceConfig(DataSourceProperties properties,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${worlder.sqlite.busy-timeout-ms:5000}") int busyTimeoutMs,
+                                  @Value("${worlder.sqlite.mmap-size:268435456}") long mmapSize,
+                                  @Value("${worlder.sqlite.connection-timeout-ms:30000}") long connectionTimeoutMs) {
+        this.properties = properties;
+        this.busyTimeoutMs = busyTimeoutMs;
+        this.mmapSize = mmapSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriterDataSource(@Value("${worlder.sqlite.journal-mode:WAL}") String journalMode,
+                                                   @Value("${worlder.sqlite.synchronous:NORMAL}") String synchronous) {
+        SQLiteConfig sqlite = new SQLiteConfig();
+        sqlite.setJournalMode(SQLiteConfig.JournalMode.valueOf(journalMode));
+        sqlite.setSynchronous(SQLiteConfig.SynchronousMode.valueOf(synchronous));
+        
+        return pool("sqlite-writer", sqlite, 1, false);
+    }
+    
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReaderDataSource(@Qualifier("sqliteWriterDataSource") HikariDataSource writer,
+                                                   @Value("${worlder.sqlite.reader-pool-size:0}") int readerPoolSize,
+                                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // Taking the writer as a dependency makes sure the database file exists and is in WAL mode
+        // before any read-only connection is opened.
+        SQLiteConfig sqlite = new SQLiteConfig();
+        sqlite.setReadOnly(true);
+        
+        int size = readerPoolSize > 0 ? readerPoolSize : defaultReaderPoolSize(virtualThreads);
+        return pool("sqlite-reader", sqlite, size, true);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") HikariDataSource writer,
+                                 @Qualifier("sqliteReaderDataSource") HikariDataSource reader) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(writer);
+        routing.setReadOnlyDataSource(reader);
+        return routing;
+    }
+    
+    private int defaultReaderPoolSize(boolean virtualThreads) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        // sqlite-jdbc enters the native library through synchronized methods, so every connection in use
+        // pins a carrier thread. Keep half of the carriers free for requests served from memory.
+        return virtualThreads ? Math.max(1, cores / 2) : cores;
+    }
+    
+    private HikariDataSource pool(String name, SQLiteConfig sqlite, int size, boolean readOnly) {
+        sqlite.setBusyTimeout(busyTimeoutMs);
+        
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(properties.determineUrl());
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setDataSourceProperties(sqlite.toProperties());
+        config.setConnectionInitSql("PRAGMA mmap_size=" + mmapSize);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setMaximumPoolSize(size);
+        config.setMinimumIdle(size);
+        // sqlite-jdbc refuses to flip the read-only flag of an open connection, and Hikari applies its own
+        // default to every new connection and again whenever one is returned, so both must agree.
+        config.setReadOnly(readOnly);
+        // Pools are started here, before Boot's pool metrics binder runs, so register the tracker up front.
+        meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new HikariDataSource(config);
+    }
+}
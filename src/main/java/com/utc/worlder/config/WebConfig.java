@@ -0,0 +1,24 @@
+package com.utc.worlder.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    
+    private final DatasetETagInterceptor datasetETagInterceptor;
+    
+    @Autowired
+    public WebConfig(DatasetETagInterceptor datasetETagInterceptor) {
+        this.datasetETagInterceptor = datasetETagInterceptor;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(datasetETagInterceptor)
+                .addPathPatterns("/api/countries", "/api/countries/**")
+                .excludePathPatterns("/api/countries/random");
+    }
+}
@@ -1,13 +1,35 @@
 package com.utc.worlder.controller;
 
+import com.utc.worlder.cache.CachedJson;
+import com.utc.worlder.cache.JsonResponseCache;
+import com.utc.worlder.dto.BatchLookupResponse;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.CountryDistance;
+import com.utc.worlder.dto.CountryPatch;
+import com.utc.worlder.dto.CountryPage;
+import com.utc.worlder.dto.CountrySort;
+import com.utc.worlder.dto.ExportFormat;
+import com.utc.worlder.dto.NearbyCountry;
 import com.utc.worlder.entity.Country;
+import com.utc.worlder.service.CountryExportService;
+import com.utc.worlder.service.CountryIngestService;
+import com.utc.worlder.service.CountryPatchService;
 import com.utc.worlder.service.CountryService;
+import com.utc.worlder.service.CountryUpsertService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @RestController
@@ -15,17 +37,137 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class CountryController {
     
+    private static final int MAX_PAGE_SIZE = 500;
+    
+    private static final int MAX_BATCH_LOOKUP = 500;
+    
+    private static final int MAX_NEAREST = 50;
+    
+    private static final int MAX_RANDOM = 50;
+    
     private final CountryService countryService;
     
+    private final CountryExportService countryExportService;
+    
+    private final CountryIngestService countryIngestService;
+    
+    private final CountryPatchService countryPatchService;
+    
+    private final CountryUpsertService countryUpsertService;
+    
+    private final JsonResponseCache responseCache;
+    
     @Autowired
-    public CountryController(CountryService countryService) {
+    public CountryController(CountryService countryService,
+                             CountryExportService countryExportService,
+                             CountryIngestService countryIngestService,
+                             CountryPatchService countryPatchService,
+                             CountryUpsertService countryUpsertService,
+                             JsonResponseCache responseCache) {
         this.countryService = countryService;
+        this.countryExportService = countryExportService;
+        this.countryIngestService = countryIngestService;
+        this.countryPatchService = countryPatchService;
+        this.countryUpsertService = countryUpsertService;
+        this.responseCache = responseCache;
     }
     
     @GetMapping
-    public ResponseEntity<List<Country>> getAllCountries() {
-        List<Country> countries = countryService.getAllCountries();
-        return ResponseEntity.ok(countries);
+    public ResponseEntity<byte[]> getAllCountries(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CachedJson countries = responseCache.get("countries", countryService.getDatasetVersion(),
+                countryService::getAllCountries);
+        return jsonResponse(countries, acceptEncoding);
+    }
+    
+    @GetMapping(params = "limit")
+    public ResponseEntity<CountryPage> getCountriesPage(@RequestParam int limit,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "id") String sort) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            CountryPage page = countryService.getCountriesPage(CountrySort.fromParameter(sort), after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCountries(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        StreamingResponseBody body = out -> countryExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+    
+    @GetMapping("/batch")
+    public ResponseEntity<BatchLookupResponse> getCountriesBatch(@RequestParam(required = false) List<Long> ids,
+                                                                 @RequestParam(required = false) List<String> codes) {
+        if ((ids == null) == (codes == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<?> keys = ids != null ? ids : codes;
+        if (keys.isEmpty() || keys.size() > MAX_BATCH_LOOKUP) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        BatchLookupResponse response = ids != null
+                ? countryService.getCountriesByIds(ids)
+                : countryService.getCountriesByIsoCodes(codes);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/random")
+    public ResponseEntity<List<Country>> getRandomCountries(@RequestParam(required = false) String continent,
+                                                            @RequestParam(required = false) Long minPopulation,
+                                                            @RequestParam(defaultValue = "1") int n,
+                                                            @RequestParam(defaultValue = "false") boolean weighted) {
+        if (n < 1 || n > MAX_RANDOM) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(countryService.getRandomCountries(continent, minPopulation, n, weighted));
+    }
+    
+    @GetMapping("/near")
+    public ResponseEntity<List<NearbyCountry>> getCountriesNear(@RequestParam double lat,
+                                                                @RequestParam double lon,
+                                                                @RequestParam double radiusKm) {
+        if (Math.abs(lat) > 90 || Math.abs(lon) > 180 || !(radiusKm >= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(countryService.getCountriesNear(lat, lon, radiusKm));
+    }
+    
+    @GetMapping("/{id}/nearest")
+    public ResponseEntity<List<NearbyCountry>> getNearestCountries(@PathVariable Long id,
+                                                                   @RequestParam(defaultValue = "5") int k) {
+        if (k < 1 || k > MAX_NEAREST) {
+            return ResponseEntity.badRequest().build();
+        }
+        return countryService.getNearestCountries(id, k)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{fromId}/to/{toId}")
+    public ResponseEntity<CountryDistance> getDistance(@PathVariable Long fromId, @PathVariable Long toId) {
+        return countryService.getDistance(fromId, toId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/{id}")
@@ -50,9 +192,15 @@ public class CountryController {
     }
     
     @GetMapping("/continent/{continent}")
-    public ResponseEntity<List<Country>> getCountriesByContinent(@PathVariable String continent) {
-        List<Country> countries = countryService.getCountriesByContinent(continent);
-        return ResponseEntity.ok(countries);
+    public ResponseEntity<byte[]> getCountriesByContinent(
+            @PathVariable String continent,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // Unknown continents all serialize to the same empty list; one shared key keeps made-up names
+        // from filling the cache.
+        String key = countryService.getAllContinents().contains(continent) ? "continent:" + continent : "continent:?";
+        CachedJson countries = responseCache.get(key, countryService.getDatasetVersion(),
+                () -> countryService.getCountriesByContinent(continent));
+        return jsonResponse(countries, acceptEncoding);
     }
     
     @GetMapping("/population/min/{minPopulation}")
@@ -61,16 +209,58 @@ public class CountryController {
         return ResponseEntity.ok(countries);
     }
     
+    @GetMapping("/population/max/{maxPopulation}")
+    public ResponseEntity<List<Country>> getCountriesWithMaxPopulation(@PathVariable Long maxPopulation) {
+        List<Country> countries = countryService.getCountriesWithPopulationLessThan(maxPopulation);
+        return ResponseEntity.ok(countries);
+    }
+    
+    @GetMapping("/population/range")
+    public ResponseEntity<List<Country>> getCountriesInPopulationRange(@RequestParam(required = false) Long min,
+                                                                       @RequestParam(required = false) Long max) {
+        if (min != null && max != null && min > max) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<Country> countries = countryService.getCountriesWithPopulationBetween(min, max);
+        return ResponseEntity.ok(countries);
+    }
+    
     @GetMapping("/area/min/{minArea}")
     public ResponseEntity<List<Country>> getCountriesWithMinArea(@PathVariable Double minArea) {
+        if (!isFiniteBound(minArea)) {
+            return ResponseEntity.badRequest().build();
+        }
         List<Country> countries = countryService.getCountriesWithAreaGreaterThan(minArea);
         return ResponseEntity.ok(countries);
     }
     
+    @GetMapping("/area/max/{maxArea}")
+    public ResponseEntity<List<Country>> getCountriesWithMaxArea(@PathVariable Double maxArea) {
+        if (!isFiniteBound(maxArea)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Country> countries = countryService.getCountriesWithAreaLessThan(maxArea);
+        return ResponseEntity.ok(countries);
+    }
+    
+    @GetMapping("/area/range")
+    public ResponseEntity<List<Country>> getCountriesInAreaRange(@RequestParam(required = false) Double min,
+                                                                 @RequestParam(required = false) Double max) {
+        if (!isFiniteBound(min) || !isFiniteBound(max) || (min != null && max != null && min > max)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<Country> countries = countryService.getCountriesWithAreaBetween(min, max);
+        return ResponseEntity.ok(countries);
+    }
+    
     @GetMapping("/continents")
-    public ResponseEntity<List<String>> getAllContinents() {
-        List<String> continents = countryService.getAllContinents();
-        return ResponseEntity.ok(continents);
+    public ResponseEntity<byte[]> getAllContinents(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CachedJson continents = responseCache.get("continents", countryService.getDatasetVersion(),
+                countryService::getAllContinents);
+        return jsonResponse(continents, acceptEncoding);
     }
     
     @GetMapping("/count")
@@ -84,29 +274,129 @@ public class CountryController {
         try {
             Country savedCountry = countryService.saveCountry(country);
             return new ResponseEntity<>(savedCountry, HttpStatus.CREATED);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<BatchResponse> ingestCountries(InputStream body) {
+        try {
+            BatchResponse response = countryIngestService.ingest(body);
+            return ResponseEntity.ok(response);
+        } catch (IOException | DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Country> updateCountry(@PathVariable Long id, @RequestBody Country country) {
-        if (!countryService.existsById(id)) {
-            return ResponseEntity.notFound().build();
+        return countryService.updateCountry(id, country)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PutMapping("/code/{isoCode}")
+    public ResponseEntity<Country> upsertCountry(@PathVariable String isoCode, @RequestBody Country country) {
+        try {
+            return countryUpsertService.upsert(isoCode, country)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.ok().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResponse> upsertCountries(@RequestBody List<Country> countries) {
+        try {
+            return ResponseEntity.ok(countryUpsertService.upsertAll(countries));
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    @PatchMapping("/{id}")
+    public ResponseEntity<Country> patchCountry(@PathVariable Long id, @RequestBody CountryPatch patch) {
+        try {
+            return countryPatchService.patch(id, patch)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    @PatchMapping
+    public ResponseEntity<BatchResponse> patchCountries(@RequestBody List<CountryPatch> patches) {
+        try {
+            return ResponseEntity.ok(countryPatchService.patchByIsoCode(patches));
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
-        
-        country.setId(id);
-        Country updatedCountry = countryService.saveCountry(country);
-        return ResponseEntity.ok(updatedCountry);
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCountry(@PathVariable Long id) {
-        if (!countryService.existsById(id)) {
+        if (!countryService.deleteCountry(id)) {
             return ResponseEntity.notFound().build();
         }
-        
-        countryService.deleteCountry(id);
         return ResponseEntity.noContent().build();
     }
+    
+    // "NaN" and "Infinity" parse as doubles, but a NaN bound fails every comparison the filters make.
+    private static boolean isFiniteBound(Double bound) {
+        return bound == null || Double.isFinite(bound);
+    }
+    
+    private ResponseEntity<byte[]> jsonResponse(CachedJson json, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (json.hasGzip() && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.gzip());
+        }
+        return response.body(json.identity());
+    }
+    
+    /**
+     * Whether {@code Accept-Encoding} allows gzip: listed (or covered by {@code *}) with a non-zero q-value.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = quality;
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.utc.worlder.controller;
+
+import com.utc.worlder.dto.DailyPuzzle;
+import com.utc.worlder.dto.GuessRequest;
+import com.utc.worlder.dto.GuessResponse;
+import com.utc.worlder.service.DailyPuzzleService;
+import com.utc.worlder.service.GameService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/game")
+@CrossOrigin(origins = "*")
+public class GameController {
+    
+    private static final int MAX_GUESSES = 100;
+    
+    private final GameService gameService;
+    
+    private final DailyPuzzleService dailyPuzzleService;
+    
+    @Autowired
+    public GameController(GameService gameService, DailyPuzzleService dailyPuzzleService) {
+        this.gameService = gameService;
+        this.dailyPuzzleService = dailyPuzzleService;
+    }
+    
+    @GetMapping("/daily")
+    public ResponseEntity<DailyPuzzle> getDailyPuzzle() {
+        return dailyPuzzleService.getTodaysPuzzle()
+                .map(puzzle -> ResponseEntity.ok()
+                        .cacheControl(CacheControl
+                                .maxAge(Duration.ofSeconds(dailyPuzzleService.getSecondsUntilRollover(puzzle)))
+                                .cachePublic())
+                        .headers(headers -> headers.setExpires(puzzle.expiresAt().toEpochMilli()))
+                        .body(puzzle))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/guess")
+    public ResponseEntity<GuessResponse> guess(@RequestBody GuessRequest request) {
+        List<String> guesses = request.allGuesses();
+        if (request.target() == null || guesses.isEmpty() || guesses.size() > MAX_GUESSES) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return gameService.evaluate(request.target(), guesses)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
\ No newline at end of file
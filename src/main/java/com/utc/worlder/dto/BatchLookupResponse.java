@@ -0,0 +1,16 @@
+package com.utc.worlder.dto;
+
+import java.util.List;
+
+public record BatchLookupResponse(int found, int missing, List<LookupResult> results) {
+
+    public static BatchLookupResponse of(List<LookupResult> results) {
+        int found = 0;
+        for (LookupResult result : results) {
+            if (result.found()) {
+                found++;
+            }
+        }
+        return new BatchLookupResponse(found, results.size() - found, results);
+    }
+}
\ No newline at end of file
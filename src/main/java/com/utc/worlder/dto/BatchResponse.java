@@ -0,0 +1,24 @@
+package com.utc.worlder.dto;
+
+import java.util.List;
+
+public record BatchResponse(int created, int updated, int duplicates, int notFound, int invalid, List<BatchResult> results) {
+
+    public static BatchResponse of(List<BatchResult> results) {
+        int created = 0;
+        int updated = 0;
+        int duplicates = 0;
+        int notFound = 0;
+        int invalid = 0;
+        for (BatchResult result : results) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case DUPLICATE -> duplicates++;
+                case NOT_FOUND -> notFound++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new BatchResponse(created, updated, duplicates, notFound, invalid, results);
+    }
+}
\ No newline at end of file
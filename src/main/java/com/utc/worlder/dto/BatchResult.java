@@ -0,0 +1,19 @@
+package com.utc.worlder.dto;
+
+/**
+ * Outcome of one row of a bulk ingest, upsert or patch, at its position in the request.
+ */
+public record BatchResult(int index, String isoCode, Status status, String message) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DUPLICATE,
+        NOT_FOUND,
+        INVALID
+    }
+
+    public static BatchResult of(int index, String isoCode, Status status) {
+        return new BatchResult(index, isoCode, status, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.utc.worlder.dto;
+
+import com.utc.worlder.index.DistanceMatrix;
+
+public record CountryDistance(Long fromId, Long toId, int distanceKm, double bearing, String direction, int proximity) {
+
+    public static CountryDistance of(Long fromId, Long toId, int cell) {
+        return new CountryDistance(
+                fromId,
+                toId,
+                DistanceMatrix.distanceKm(cell),
+                DistanceMatrix.bearingDegrees(cell),
+                DistanceMatrix.compassDirection(cell),
+                DistanceMatrix.proximityPercent(cell));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.utc.worlder.dto;
+
+import com.utc.worlder.entity.Country;
+
+import java.util.List;
+
+public record CountryPage(List<Country> items, String sort, int limit, String nextCursor) {
+}
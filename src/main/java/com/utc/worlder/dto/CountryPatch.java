@@ -0,0 +1,17 @@
+package com.utc.worlder.dto;
+
+/**
+ * Partial update of a country. Fields left null are not touched; in bulk patches {@code isoCode}
+ * identifies the row rather than being updated.
+ */
+public record CountryPatch(String name,
+                           String isoCode,
+                           String capital,
+                           String continent,
+                           Long population,
+                           Double area,
+                           String currency,
+                           String officialLanguage,
+                           Double latitude,
+                           Double longitude) {
+}
\ No newline at end of file
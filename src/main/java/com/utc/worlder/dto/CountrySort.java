@@ -0,0 +1,22 @@
+package com.utc.worlder.dto;
+
+import java.util.Locale;
+
+public enum CountrySort {
+    ID,
+    NAME,
+    POPULATION,
+    AREA;
+
+    public static CountrySort fromParameter(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported sort key: " + value, e);
+        }
+    }
+
+    public String parameterName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
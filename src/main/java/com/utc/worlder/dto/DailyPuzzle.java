@@ -0,0 +1,7 @@
+package com.utc.worlder.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record DailyPuzzle(LocalDate date, long number, Long countryId, String isoCode, Instant expiresAt) {
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.utc.worlder.dto;
+
+/**
+ * Feedback for one guess. Comparisons read from the target's side: {@code population = HIGHER} means the
+ * target has more people than the guess. Distance fields are null when either country has no centroid.
+ */
+public record GuessFeedback(String guess,
+                            boolean known,
+                            boolean correct,
+                            Integer distanceKm,
+                            Double bearing,
+                            String direction,
+                            Integer proximity,
+                            Match continent,
+                            Trend population,
+                            Trend area,
+                            Match currency,
+                            Match officialLanguage) {
+
+    public static GuessFeedback unknown(String guess) {
+        return new GuessFeedback(guess, false, false, null, null, null, null,
+                Match.UNKNOWN, Trend.UNKNOWN, Trend.UNKNOWN, Match.UNKNOWN, Match.UNKNOWN);
+    }
+
+    public enum Match {
+        SAME,
+        DIFFERENT,
+        UNKNOWN
+    }
+
+    public enum Trend {
+        HIGHER,
+        LOWER,
+        EQUAL,
+        UNKNOWN
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.utc.worlder.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record GuessRequest(String target, String guess, List<String> guesses) {
+
+    public List<String> allGuesses() {
+        List<String> all = new ArrayList<>();
+        if (guess != null) {
+            all.add(guess);
+        }
+        if (guesses != null) {
+            all.addAll(guesses);
+        }
+        return all;
+    }
+}
\ No newline at end of file
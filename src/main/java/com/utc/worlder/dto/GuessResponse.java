@@ -0,0 +1,6 @@
+package com.utc.worlder.dto;
+
+import java.util.List;
+
+public record GuessResponse(String target, boolean solved, List<GuessFeedback> results) {
+}
\ No newline at end of file
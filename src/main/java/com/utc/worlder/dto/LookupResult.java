@@ -0,0 +1,6 @@
+package com.utc.worlder.dto;
+
+import com.utc.worlder.entity.Country;
+
+public record LookupResult(String key, boolean found, Country country) {
+}
\ No newline at end of file
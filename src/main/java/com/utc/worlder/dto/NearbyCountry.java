@@ -0,0 +1,6 @@
+package com.utc.worlder.dto;
+
+import com.utc.worlder.entity.Country;
+
+public record NearbyCountry(Country country, double distanceKm) {
+}
\ No newline at end of file
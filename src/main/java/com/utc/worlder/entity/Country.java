@@ -1,9 +1,18 @@
 package com.utc.worlder.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "countries")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries")
+@Table(name = "countries", indexes = {
+        @Index(name = "idx_countries_continent", columnList = "continent"),
+        @Index(name = "idx_countries_population", columnList = "population"),
+        @Index(name = "idx_countries_area", columnList = "area"),
+        @Index(name = "idx_countries_continent_population", columnList = "continent, population")
+})
 public class Country {
     
     @Id
@@ -28,6 +37,10 @@ public class Country {
     
     @Column(name = "official_language")
     private String officialLanguage;
+    
+    private Double latitude;
+    
+    private Double longitude;
 
     public Country() {}
 
@@ -113,4 +126,20 @@ public class Country {
     public void setOfficialLanguage(String officialLanguage) {
         this.officialLanguage = officialLanguage;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
\ No newline at end of file
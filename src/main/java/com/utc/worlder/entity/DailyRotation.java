@@ -0,0 +1,43 @@
+package com.utc.worlder.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * One cycle of the daily puzzle: the located countries as they were when the cycle started, in the
+ * order they are played from {@code startDay} (days since the puzzle epoch) onwards.
+ */
+@Entity
+@Table(name = "daily_rotations")
+public class DailyRotation {
+    
+    @Id
+    @Column(name = "cycle_number")
+    private Long cycle;
+    
+    @Column(name = "start_day", nullable = false)
+    private Long startDay;
+    
+    // Comma-separated country ids in play order.
+    @Column(name = "country_ids", nullable = false, columnDefinition = "TEXT")
+    private String countryIds;
+
+    public DailyRotation() {}
+
+    public DailyRotation(Long cycle, Long startDay, String countryIds) {
+        this.cycle = cycle;
+        this.startDay = startDay;
+        this.countryIds = countryIds;
+    }
+
+    public Long getCycle() {
+        return cycle;
+    }
+
+    public Long getStartDay() {
+        return startDay;
+    }
+
+    public String getCountryIds() {
+        return countryIds;
+    }
+}
\ No newline at end of file
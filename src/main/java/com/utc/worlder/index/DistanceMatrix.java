@@ -0,0 +1,223 @@
+package com.utc.worlder.index;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Pairwise distance and initial bearing between every located row, kept off-heap in a square matrix
+ * indexed by dense ordinals. Each cell is one {@code int}: whole kilometres in the high 16 bits and the
+ * bearing quantized to 1/65536 of a turn in the low 16 bits, so a lookup is a single buffer read.
+ * <p>
+ * {@link #synchronize(List)} diffs the rows against the previous call and only recomputes the rows and
+ * columns of ordinals that were added or moved; freed ordinals are reused. Writers are serialized and
+ * copy-on-write: changed cells go into a fresh buffer published together with its ordinal assignment,
+ * so a reader always sees a buffer and ordinals from the same call.
+ */
+public final class DistanceMatrix<T> {
+
+    public static final int MAX_DISTANCE_KM = (int) Math.round(Math.PI * GeoIndex.EARTH_RADIUS_KM);
+
+    private static final int BYTES_PER_CELL = Integer.BYTES;
+
+    private static final double TURN = 65536.0;
+
+    private static final String[] COMPASS = {"N", "NE", "E", "SE", "S", "SW", "W", "NW"};
+
+    private final Function<T, Long> key;
+
+    private final Function<T, Double> latitude;
+
+    private final Function<T, Double> longitude;
+
+    private final int maxSize;
+
+    private volatile Layout layout = new Layout(ByteBuffer.allocateDirect(0), 0, Map.of());
+
+    private double[] latitudes = new double[0];
+
+    private double[] longitudes = new double[0];
+
+    private boolean[] live = new boolean[0];
+
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private int highWater;
+
+    private int lastRecomputed;
+
+    private record Layout(ByteBuffer cells, int capacity, Map<Long, Integer> ordinals) {
+    }
+
+    public DistanceMatrix(Function<T, Long> key, Function<T, Double> latitude, Function<T, Double> longitude, int maxSize) {
+        if (maxSize < 0 || (long) maxSize * maxSize * BYTES_PER_CELL > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxSize must fit a single buffer: " + maxSize);
+        }
+        this.key = key;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Brings the matrix in line with {@code rows}. Rows without finite coordinates, and rows beyond
+     * {@code maxSize}, get no ordinal; callers fall back to {@link #encode} for them.
+     */
+    public synchronized void synchronize(List<T> rows) {
+        Layout current = layout;
+        Map<Long, Integer> ordinals = new HashMap<>();
+        List<Integer> dirty = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (T row : rows) {
+            Long id = key.apply(row);
+            Double lat = latitude.apply(row);
+            Double lon = longitude.apply(row);
+            if (id == null || lat == null || lon == null || !Double.isFinite(lat) || !Double.isFinite(lon) || !seen.add(id)) {
+                continue;
+            }
+            Integer ordinal = current.ordinals().get(id);
+            if (ordinal != null) {
+                if (latitudes[ordinal] != lat || longitudes[ordinal] != lon) {
+                    dirty.add(ordinal);
+                }
+            } else {
+                ordinal = nextOrdinal();
+                if (ordinal < 0) {
+                    continue;
+                }
+                dirty.add(ordinal);
+            }
+            ordinals.put(id, ordinal);
+            ensureWorkingCapacity(ordinal + 1);
+            latitudes[ordinal] = lat;
+            longitudes[ordinal] = lon;
+        }
+
+        for (Map.Entry<Long, Integer> entry : current.ordinals().entrySet()) {
+            if (!ordinals.containsKey(entry.getKey())) {
+                live[entry.getValue()] = false;
+                freeOrdinals.push(entry.getValue());
+            }
+        }
+        for (int ordinal : ordinals.values()) {
+            live[ordinal] = true;
+        }
+
+        ByteBuffer cells = current.cells();
+        int capacity = current.capacity();
+        if (!dirty.isEmpty()) {
+            int size = highWater > capacity ? Math.min(maxSize, Math.max(16, Math.max(highWater, capacity * 2))) : capacity;
+            cells = copy(cells, capacity, size);
+            capacity = size;
+        }
+        for (int from : dirty) {
+            for (int to = 0; to < highWater; to++) {
+                if (live[to]) {
+                    cells.putInt(offset(from, to, capacity), encode(latitudes[from], longitudes[from], latitudes[to], longitudes[to]));
+                    cells.putInt(offset(to, from, capacity), encode(latitudes[to], longitudes[to], latitudes[from], longitudes[from]));
+                }
+            }
+        }
+
+        lastRecomputed = dirty.size();
+        layout = new Layout(cells, capacity, Map.copyOf(ordinals));
+    }
+
+    /**
+     * The packed cell from {@code fromKey} to {@code toKey}, or -1 when either key has no ordinal.
+     */
+    public int cell(Long fromKey, Long toKey) {
+        Layout current = layout;
+        Integer from = current.ordinals().get(fromKey);
+        Integer to = current.ordinals().get(toKey);
+        if (from == null || to == null) {
+            return -1;
+        }
+        return current.cells().getInt(offset(from, to, current.capacity()));
+    }
+
+    public int size() {
+        return layout.ordinals().size();
+    }
+
+    public long offHeapBytes() {
+        return layout.cells().capacity();
+    }
+
+    public int getLastRecomputed() {
+        return lastRecomputed;
+    }
+
+    public static int encode(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        int distance = (int) Math.round(GeoIndex.distanceKm(fromLatitude, fromLongitude, toLatitude, toLongitude));
+        int bearing = (int) Math.round(bearing(fromLatitude, fromLongitude, toLatitude, toLongitude) / 360.0 * TURN) & 0xFFFF;
+        return distance << 16 | bearing;
+    }
+
+    public static int distanceKm(int cell) {
+        return cell >>> 16;
+    }
+
+    public static double bearingDegrees(int cell) {
+        return (cell & 0xFFFF) * 360.0 / TURN;
+    }
+
+    /**
+     * 100 for the same spot, 0 for the antipode.
+     */
+    public static int proximityPercent(int cell) {
+        return Math.max(0, (int) Math.floor((MAX_DISTANCE_KM - distanceKm(cell)) * 100.0 / MAX_DISTANCE_KM));
+    }
+
+    public static String compassDirection(int cell) {
+        return COMPASS[(int) Math.round(bearingDegrees(cell) / 45.0) % COMPASS.length];
+    }
+
+    private static double bearing(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double lat1 = Math.toRadians(fromLatitude);
+        double lat2 = Math.toRadians(toLatitude);
+        double deltaLon = Math.toRadians(toLongitude - fromLongitude);
+        double y = Math.sin(deltaLon) * Math.cos(lat2);
+        double x = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1) * Math.cos(lat2) * Math.cos(deltaLon);
+        double degrees = Math.toDegrees(Math.atan2(y, x));
+        return degrees < 0 ? degrees + 360 : degrees;
+    }
+
+    private static int offset(int from, int to, int capacity) {
+        return (from * capacity + to) * BYTES_PER_CELL;
+    }
+
+    private int nextOrdinal() {
+        if (!freeOrdinals.isEmpty()) {
+            return freeOrdinals.pop();
+        }
+        return highWater < maxSize ? highWater++ : -1;
+    }
+
+    private void ensureWorkingCapacity(int size) {
+        if (size > latitudes.length) {
+            int length = Math.max(size, latitudes.length * 2);
+            latitudes = Arrays.copyOf(latitudes, length);
+            longitudes = Arrays.copyOf(longitudes, length);
+            live = Arrays.copyOf(live, length);
+        }
+    }
+
+    // Readers may still hold the published buffer, so every change is written into a copy.
+    private static ByteBuffer copy(ByteBuffer cells, int capacity, int size) {
+        ByteBuffer copied = ByteBuffer.allocateDirect(size * size * BYTES_PER_CELL);
+        for (int row = 0; row < capacity; row++) {
+            copied.put(row * size * BYTES_PER_CELL, cells, row * capacity * BYTES_PER_CELL, capacity * BYTES_PER_CELL);
+        }
+        return copied;
+    }
+}
\ No newline at end of file
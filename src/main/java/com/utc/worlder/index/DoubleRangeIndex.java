@@ -0,0 +1,93 @@
+package com.utc.worlder.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@code double}-keyed counterpart of {@link LongRangeIndex}; rows with a missing or NaN key are left out.
+ */
+public final class DoubleRangeIndex<T> {
+
+    private final double[] keys;
+
+    private final List<T> rows;
+
+    private DoubleRangeIndex(double[] keys, List<T> rows) {
+        this.keys = keys;
+        this.rows = rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> DoubleRangeIndex<T> build(List<T> items, Function<T, Double> keyExtractor) {
+        Object[] sorted = items.stream()
+                .filter(item -> {
+                    Double key = keyExtractor.apply(item);
+                    return key != null && !key.isNaN();
+                })
+                .sorted(Comparator.comparing(keyExtractor))
+                .toArray();
+        double[] keys = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = keyExtractor.apply((T) sorted[i]);
+        }
+        return new DoubleRangeIndex<>(keys, Collections.unmodifiableList(Arrays.asList((T[]) sorted)));
+    }
+
+    public List<T> greaterThan(double min) {
+        return rows.subList(upperBound(min), keys.length);
+    }
+
+    public List<T> lessThan(double max) {
+        return rows.subList(0, lowerBound(max));
+    }
+
+    public List<T> between(double minInclusive, double maxInclusive) {
+        if (minInclusive > maxInclusive) {
+            return List.of();
+        }
+        return rows.subList(lowerBound(minInclusive), upperBound(maxInclusive));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public double keyAt(int position) {
+        return keys[position];
+    }
+
+    public T rowAt(int position) {
+        return rows.get(position);
+    }
+
+    public int lowerBound(double key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int upperBound(double key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
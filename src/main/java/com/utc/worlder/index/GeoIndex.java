@@ -0,0 +1,302 @@
+package com.utc.worlder.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Static k-d tree over points on the sphere. Each point is stored as a unit vector so straight-line
+ * (chord) distance orders points exactly like great-circle distance and no trigonometry runs while
+ * searching. The tree is implicit: the median of every range sits at its midpoint, so coordinates
+ * and rows live in plain arrays with no node objects.
+ */
+public final class GeoIndex<T> {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double[] xs;
+
+    private final double[] ys;
+
+    private final double[] zs;
+
+    private final Object[] rows;
+
+    public record Hit<T>(T item, double distanceKm) {
+    }
+
+    private GeoIndex(double[] xs, double[] ys, double[] zs, Object[] rows) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.rows = rows;
+    }
+
+    public static <T> GeoIndex<T> build(List<T> items, Function<T, Double> latitude, Function<T, Double> longitude) {
+        List<T> located = new ArrayList<>(items.size());
+        for (T item : items) {
+            Double lat = latitude.apply(item);
+            Double lon = longitude.apply(item);
+            if (lat != null && lon != null && Double.isFinite(lat) && Double.isFinite(lon)) {
+                located.add(item);
+            }
+        }
+
+        int size = located.size();
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] zs = new double[size];
+        Object[] rows = new Object[size];
+        for (int i = 0; i < size; i++) {
+            T item = located.get(i);
+            double lat = Math.toRadians(latitude.apply(item));
+            double lon = Math.toRadians(longitude.apply(item));
+            xs[i] = Math.cos(lat) * Math.cos(lon);
+            ys[i] = Math.cos(lat) * Math.sin(lon);
+            zs[i] = Math.sin(lat);
+            rows[i] = item;
+        }
+
+        GeoIndex<T> index = new GeoIndex<>(xs, ys, zs, rows);
+        index.arrange(0, size, 0);
+        return index;
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * The {@code k} points closest to the given position, nearest first. {@code exclude} (compared by
+     * identity, may be null) lets a caller ask for the neighbours of a row without getting the row back.
+     */
+    public List<Hit<T>> nearest(double latitude, double longitude, int k, T exclude) {
+        if (k <= 0 || rows.length == 0) {
+            return List.of();
+        }
+        double[] query = unitVector(latitude, longitude);
+        NearestSearch search = new NearestSearch(query, Math.min(k, rows.length), exclude);
+        search.visit(0, rows.length, 0);
+        return search.hits();
+    }
+
+    /**
+     * Every point within {@code radiusKm} of the given position, nearest first.
+     */
+    public List<Hit<T>> within(double latitude, double longitude, double radiusKm) {
+        if (radiusKm < 0 || rows.length == 0) {
+            return List.of();
+        }
+        double[] query = unitVector(latitude, longitude);
+        double chord = 2 * Math.sin(Math.min(Math.PI, radiusKm / EARTH_RADIUS_KM) / 2);
+        List<Hit<T>> hits = new ArrayList<>();
+        collectWithin(query, chord * chord, 0, rows.length, 0, hits);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    public static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double[] from = unitVector(fromLatitude, fromLongitude);
+        double[] to = unitVector(toLatitude, toLongitude);
+        double dx = from[0] - to[0];
+        double dy = from[1] - to[1];
+        double dz = from[2] - to[2];
+        return chordToKm(dx * dx + dy * dy + dz * dz);
+    }
+
+    private static double[] unitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        return new double[] {Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat)};
+    }
+
+    private static double chordToKm(double squaredChord) {
+        return 2 * Math.asin(Math.min(1.0, Math.sqrt(squaredChord) / 2)) * EARTH_RADIUS_KM;
+    }
+
+    private double coordinate(int position, int axis) {
+        return switch (axis) {
+            case 0 -> xs[position];
+            case 1 -> ys[position];
+            default -> zs[position];
+        };
+    }
+
+    private double squaredDistance(int position, double[] query) {
+        double dx = xs[position] - query[0];
+        double dy = ys[position] - query[1];
+        double dz = zs[position] - query[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T rowAt(int position) {
+        return (T) rows[position];
+    }
+
+    private void arrange(int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % 3;
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, axis);
+        arrange(from, mid, depth + 1);
+        arrange(mid + 1, to, depth + 1);
+    }
+
+    // Quickselect: leaves the element of rank k on the axis at position k, smaller ones before it.
+    private void select(int low, int high, int k, int axis) {
+        while (low < high) {
+            double pivot = coordinate((low + high) >>> 1, axis);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) {
+                    i++;
+                }
+                while (coordinate(j, axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        double x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        double y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+        double z = zs[a];
+        zs[a] = zs[b];
+        zs[b] = z;
+        Object row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+    }
+
+    private void collectWithin(double[] query, double maxSquared, int from, int to, int depth, List<Hit<T>> hits) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        int axis = depth % 3;
+        double squared = squaredDistance(mid, query);
+        if (squared <= maxSquared) {
+            hits.add(new Hit<>(rowAt(mid), chordToKm(squared)));
+        }
+        double delta = query[axis] - coordinate(mid, axis);
+        if (delta <= 0 || delta * delta <= maxSquared) {
+            collectWithin(query, maxSquared, from, mid, depth + 1, hits);
+        }
+        if (delta >= 0 || delta * delta <= maxSquared) {
+            collectWithin(query, maxSquared, mid + 1, to, depth + 1, hits);
+        }
+    }
+
+    /**
+     * Bounded max-heap of the best candidates so far, kept in primitive arrays.
+     */
+    private final class NearestSearch {
+
+        private final double[] query;
+
+        private final Object exclude;
+
+        private final double[] heapDistances;
+
+        private final int[] heapPositions;
+
+        private int heapSize;
+
+        private NearestSearch(double[] query, int k, Object exclude) {
+            this.query = query;
+            this.exclude = exclude;
+            this.heapDistances = new double[k];
+            this.heapPositions = new int[k];
+        }
+
+        private void visit(int from, int to, int depth) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            int axis = depth % 3;
+            if (rows[mid] != exclude) {
+                offer(mid, squaredDistance(mid, query));
+            }
+            double delta = query[axis] - coordinate(mid, axis);
+            boolean leftFirst = delta < 0;
+            if (leftFirst) {
+                visit(from, mid, depth + 1);
+            } else {
+                visit(mid + 1, to, depth + 1);
+            }
+            if (heapSize < heapDistances.length || delta * delta < heapDistances[0]) {
+                if (leftFirst) {
+                    visit(mid + 1, to, depth + 1);
+                } else {
+                    visit(from, mid, depth + 1);
+                }
+            }
+        }
+
+        private void offer(int position, double squared) {
+            if (heapSize < heapDistances.length) {
+                int child = heapSize++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (heapDistances[parent] >= squared) {
+                        break;
+                    }
+                    heapDistances[child] = heapDistances[parent];
+                    heapPositions[child] = heapPositions[parent];
+                    child = parent;
+                }
+                heapDistances[child] = squared;
+                heapPositions[child] = position;
+            } else if (squared < heapDistances[0]) {
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= heapSize) {
+                        break;
+                    }
+                    if (child + 1 < heapSize && heapDistances[child + 1] > heapDistances[child]) {
+                        child++;
+                    }
+                    if (heapDistances[child] <= squared) {
+                        break;
+                    }
+                    heapDistances[parent] = heapDistances[child];
+                    heapPositions[parent] = heapPositions[child];
+                    parent = child;
+                }
+                heapDistances[parent] = squared;
+                heapPositions[parent] = position;
+            }
+        }
+
+        private List<Hit<T>> hits() {
+            List<Hit<T>> hits = new ArrayList<>(heapSize);
+            for (int i = 0; i < heapSize; i++) {
+                hits.add(new Hit<>(rowAt(heapPositions[i]), chordToKm(heapDistances[i])));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return hits;
+        }
+    }
+}
\ No newline at end of file
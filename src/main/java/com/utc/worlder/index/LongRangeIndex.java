@@ -0,0 +1,91 @@
+package com.utc.worlder.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Rows sorted by a {@code long} key, kept as parallel arrays and answered by binary search.
+ * Query results are sub-list views over the sorted rows, so a lookup allocates nothing per element.
+ */
+public final class LongRangeIndex<T> {
+
+    private final long[] keys;
+
+    private final List<T> rows;
+
+    private LongRangeIndex(long[] keys, List<T> rows) {
+        this.keys = keys;
+        this.rows = rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> LongRangeIndex<T> build(List<T> items, Function<T, Long> keyExtractor) {
+        Object[] sorted = items.stream()
+                .filter(item -> keyExtractor.apply(item) != null)
+                .sorted(Comparator.comparing(keyExtractor))
+                .toArray();
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = keyExtractor.apply((T) sorted[i]);
+        }
+        return new LongRangeIndex<>(keys, Collections.unmodifiableList(Arrays.asList((T[]) sorted)));
+    }
+
+    public List<T> greaterThan(long min) {
+        return rows.subList(upperBound(min), keys.length);
+    }
+
+    public List<T> lessThan(long max) {
+        return rows.subList(0, lowerBound(max));
+    }
+
+    public List<T> between(long minInclusive, long maxInclusive) {
+        if (minInclusive > maxInclusive) {
+            return List.of();
+        }
+        return rows.subList(lowerBound(minInclusive), upperBound(maxInclusive));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public long keyAt(int position) {
+        return keys[position];
+    }
+
+    public T rowAt(int position) {
+        return rows.get(position);
+    }
+
+    public int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int upperBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,164 @@
+package com.utc.worlder.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random draws over rows ordered by a {@code long} weight. Rows are addressed by dense positions: rows
+ * without a weight first, then the rows of a {@link LongRangeIndex}, so "weight at least {@code min}" is
+ * the suffix found by one binary search. Uniform draws pick positions directly; weighted draws
+ * binary-search a prefix sum of the weights over that suffix.
+ */
+public final class RandomSampler<T> {
+
+    // Rejected duplicate draws allowed per requested row before switching to a single weighted pass.
+    private static final int REJECTION_BUDGET = 16;
+
+    private final List<T> unweighted;
+
+    private final LongRangeIndex<T> byWeight;
+
+    private final long[] prefix;
+
+    private RandomSampler(List<T> unweighted, LongRangeIndex<T> byWeight) {
+        this.unweighted = unweighted;
+        this.byWeight = byWeight;
+        this.prefix = new long[byWeight.size() + 1];
+        for (int i = 0; i < byWeight.size(); i++) {
+            prefix[i + 1] = prefix[i] + Math.max(0, byWeight.keyAt(i));
+        }
+    }
+
+    public static <T> RandomSampler<T> build(List<T> items, Function<T, Long> weightExtractor) {
+        List<T> unweighted = new ArrayList<>();
+        for (T item : items) {
+            if (weightExtractor.apply(item) == null) {
+                unweighted.add(item);
+            }
+        }
+        return new RandomSampler<>(unweighted, LongRangeIndex.build(items, weightExtractor));
+    }
+
+    public int size() {
+        return unweighted.size() + byWeight.size();
+    }
+
+    /**
+     * Up to {@code n} distinct rows in random order. A non-null {@code minWeight} keeps only rows whose
+     * weight is at least that value. With {@code weighted}, each draw picks a row with probability
+     * proportional to its weight among the rows not drawn yet.
+     */
+    public List<T> sample(Long minWeight, int n, boolean weighted, RandomGenerator random) {
+        int from = minWeight == null ? 0 : unweighted.size() + byWeight.lowerBound(minWeight);
+        int to = size();
+        int available = to - from;
+        if (n <= 0 || available <= 0) {
+            return List.of();
+        }
+
+        if (n >= available) {
+            List<T> all = new ArrayList<>(available);
+            for (int position = from; position < to; position++) {
+                all.add(rowAt(position));
+            }
+            shuffle(all, random);
+            return all;
+        }
+
+        int weightedFrom = Math.max(0, from - unweighted.size());
+        long totalWeight = prefix[byWeight.size()] - prefix[weightedFrom];
+        if (weighted && totalWeight > 0) {
+            return weightedSample(from, to, weightedFrom, totalWeight, n, random);
+        }
+        return uniformSample(from, available, n, random);
+    }
+
+    private T rowAt(int position) {
+        return position < unweighted.size() ? unweighted.get(position) : byWeight.rowAt(position - unweighted.size());
+    }
+
+    // Floyd's algorithm: n distinct offsets in n draws, then shuffled since Floyd's order is biased.
+    private List<T> uniformSample(int from, int available, int n, RandomGenerator random) {
+        Set<Integer> chosen = new HashSet<>();
+        List<T> rows = new ArrayList<>(n);
+        for (int bound = available - n; bound < available; bound++) {
+            int offset = random.nextInt(bound + 1);
+            if (!chosen.add(offset)) {
+                offset = bound;
+                chosen.add(offset);
+            }
+            rows.add(rowAt(from + offset));
+        }
+        shuffle(rows, random);
+        return rows;
+    }
+
+    private List<T> weightedSample(int from, int to, int weightedFrom, long totalWeight, int n, RandomGenerator random) {
+        Set<Integer> chosen = new HashSet<>();
+        List<T> rows = new ArrayList<>(n);
+        int attempts = n * REJECTION_BUDGET;
+        while (rows.size() < n && attempts-- > 0) {
+            int position = weightedPosition(weightedFrom, prefix[weightedFrom] + random.nextLong(totalWeight));
+            if (chosen.add(position)) {
+                rows.add(byWeight.rowAt(position));
+            }
+        }
+        return rows.size() == n ? rows : reservoirSample(from, to, n, random);
+    }
+
+    // First weighted position whose cumulative weight passes the target, i.e. prefix[p] <= target < prefix[p + 1].
+    private int weightedPosition(int weightedFrom, long target) {
+        int low = weightedFrom;
+        int high = byWeight.size() - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefix[mid + 1] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * One pass of weighted reservoir sampling (Efraimidis-Spirakis): every row gets the key
+     * {@code u^(1/w)}, compared as {@code ln(u)/w} to keep precision for large weights, and the
+     * {@code n} largest keys win. Used when a few heavy rows make rejection of duplicate draws too slow.
+     */
+    private List<T> reservoirSample(int from, int to, int n, RandomGenerator random) {
+        PriorityQueue<Candidate> reservoir = new PriorityQueue<>(n + 1, (a, b) -> Double.compare(a.key(), b.key()));
+        for (int position = from; position < to; position++) {
+            long weight = position < unweighted.size() ? 0 : Math.max(0, byWeight.keyAt(position - unweighted.size()));
+            double key = weight > 0 ? Math.log(random.nextDouble()) / weight : Double.NEGATIVE_INFINITY;
+            if (reservoir.size() < n) {
+                reservoir.add(new Candidate(position, key));
+            } else if (key > reservoir.peek().key()) {
+                reservoir.poll();
+                reservoir.add(new Candidate(position, key));
+            }
+        }
+
+        List<T> rows = new ArrayList<>(reservoir.size());
+        while (!reservoir.isEmpty()) {
+            rows.add(rowAt(reservoir.poll().position()));
+        }
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    private static <T> void shuffle(List<T> rows, RandomGenerator random) {
+        for (int i = rows.size() - 1; i > 0; i--) {
+            Collections.swap(rows, i, random.nextInt(i + 1));
+        }
+    }
+
+    private record Candidate(int position, double key) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.utc.worlder.metrics;
+
+import com.utc.worlder.concurrent.AdaptiveLimiter;
+import com.utc.worlder.concurrent.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConcurrencyLimitMetrics implements MeterBinder {
+    
+    private final ConcurrencyLimitFilter limitFilter;
+    
+    @Autowired
+    public ConcurrencyLimitMetrics(ConcurrencyLimitFilter limitFilter) {
+        this.limitFilter = limitFilter;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "read", limitFilter.getReadLimiter());
+        bind(registry, "write", limitFilter.getWriteLimiter());
+        bind(registry, "bulk", limitFilter.getBulkLimiter());
+    }
+    
+    private static void bind(MeterRegistry registry, String type, AdaptiveLimiter limiter) {
+        Gauge.builder("worlder.limiter.limit", limiter, AdaptiveLimiter::getLimit)
+                .tag("type", type)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("worlder.limiter.inflight", limiter, AdaptiveLimiter::getInFlight)
+                .tag("type", type)
+                .description("Requests currently admitted")
+                .register(registry);
+        FunctionCounter.builder("worlder.limiter.rejected", limiter, AdaptiveLimiter::getRejectedCount)
+                .tag("type", type)
+                .description("Requests shed with 503 because the limit was reached")
+                .register(registry);
+    }
+}
\ No newline at end of file
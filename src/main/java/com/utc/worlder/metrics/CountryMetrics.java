@@ -0,0 +1,60 @@
+package com.utc.worlder.metrics;
+
+import com.utc.worlder.cache.JsonResponseCache;
+import com.utc.worlder.service.CountryService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application-level meters. Endpoint latency ({@code http.server.requests}), repository timers
+ * ({@code spring.data.repository.invocations}) and pool gauges ({@code hikaricp.*}) come from Boot.
+ */
+@Component
+public class CountryMetrics implements MeterBinder {
+    
+    private final CountryService countryService;
+    
+    private final JsonResponseCache responseCache;
+    
+    @Autowired
+    public CountryMetrics(CountryService countryService, JsonResponseCache responseCache) {
+        this.countryService = countryService;
+        this.responseCache = responseCache;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("worlder.response.cache.requests", responseCache, JsonResponseCache::getHitCount)
+                .tag("result", "hit")
+                .description("Collection responses served from pre-serialized bytes")
+                .register(registry);
+        FunctionCounter.builder("worlder.response.cache.requests", responseCache, JsonResponseCache::getMissCount)
+                .tag("result", "miss")
+                .description("Collection responses that had to be serialized")
+                .register(registry);
+        
+        FunctionCounter.builder("worlder.singleflight.coalesced", countryService, CountryService::getCoalescedPageLoadCount)
+                .tag("operation", "countries.page")
+                .description("Page requests that waited on an identical in-flight query instead of running their own")
+                .register(registry);
+        FunctionCounter.builder("worlder.singleflight.coalesced", responseCache, JsonResponseCache::getCoalescedCount)
+                .tag("operation", "response.cache")
+                .description("Cache misses that waited on an identical in-flight serialization")
+                .register(registry);
+        
+        Gauge.builder("worlder.countries.snapshot.size", countryService, CountryService::getTotalCountriesCount)
+                .description("Countries held in the in-memory snapshot")
+                .register(registry);
+        Gauge.builder("worlder.countries.dataset.version", countryService, CountryService::getDatasetVersion)
+                .description("Version of the countries dataset, bumped on every write")
+                .register(registry);
+        Gauge.builder("worlder.distance.matrix.bytes", countryService, CountryService::getDistanceMatrixBytes)
+                .description("Off-heap bytes held by the pairwise distance and bearing matrix")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
\ No newline at end of file
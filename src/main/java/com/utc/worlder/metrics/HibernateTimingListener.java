@@ -0,0 +1,72 @@
+package com.utc.worlder.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Splits the time a Hibernate session spends into JDBC execution and hydration. Hydration is the gap
+ * between a statement returning and the session doing its next piece of JDBC work (or closing),
+ * which is where result sets are read and turned into entities.
+ * Hibernate creates one instance per session, so the fields need no synchronization.
+ */
+public class HibernateTimingListener extends BaseSessionEventListener {
+    
+    private long executeStartNanos;
+    
+    private long hydrationStartNanos;
+    
+    @Override
+    public void jdbcPrepareStatementStart() {
+        endHydration();
+    }
+    
+    @Override
+    public void jdbcExecuteStatementStart() {
+        endHydration();
+        executeStartNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        long now = System.nanoTime();
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addDb(now - executeStartNanos);
+        }
+        hydrationStartNanos = now;
+    }
+    
+    @Override
+    public void jdbcExecuteBatchStart() {
+        endHydration();
+        executeStartNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addDb(System.nanoTime() - executeStartNanos);
+        }
+    }
+    
+    @Override
+    public void flushStart() {
+        endHydration();
+    }
+    
+    @Override
+    public void end() {
+        endHydration();
+    }
+    
+    private void endHydration() {
+        if (hydrationStartNanos == 0) {
+            return;
+        }
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addHydration(System.nanoTime() - hydrationStartNanos);
+        }
+        hydrationStartNanos = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.utc.worlder.metrics;
+
+import java.util.Locale;
+
+/**
+ * Per-request timing and SQL statement counters, bound to the request thread by {@link ServerTimingFilter}.
+ * Hibernate callbacks running outside a filtered request (startup, async export) find no current timing and are ignored.
+ */
+public final class RequestTiming {
+    
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    
+    private final long startNanos = System.nanoTime();
+    
+    private long dbNanos;
+    
+    private long hydrationNanos;
+    
+    private long serializationStartNanos;
+    
+    private int statementCount;
+    
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+    
+    static void clear() {
+        CURRENT.remove();
+    }
+    
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+    
+    void addDb(long nanos) {
+        dbNanos += nanos;
+    }
+    
+    void addHydration(long nanos) {
+        hydrationNanos += nanos;
+    }
+    
+    void incrementStatements() {
+        statementCount++;
+    }
+    
+    void markSerializationStart() {
+        if (serializationStartNanos == 0) {
+            serializationStartNanos = System.nanoTime();
+        }
+    }
+    
+    int getStatementCount() {
+        return statementCount;
+    }
+    
+    String toServerTimingHeader() {
+        long now = System.nanoTime();
+        long serializationNanos = serializationStartNanos == 0 ? 0 : now - serializationStartNanos;
+        return metric("db", dbNanos) + ";desc=\"" + statementCount + " statements\", "
+                + metric("hydrate", hydrationNanos) + ", "
+                + metric("serialize", serializationNanos) + ", "
+                + metric("total", now - startNanos);
+    }
+    
+    private static String metric(String name, long nanos) {
+        return name + ";dur=" + String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.utc.worlder.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Adds a {@code Server-Timing} header (db, hydrate, serialize, total) to country API responses and
+ * warns when a request runs more SQL statements than the configured budget. Nothing is buffered: the
+ * header is set just before the first body byte goes out, which for bodies that fit Jackson's write
+ * buffer is after serialization has finished. The streaming export is left alone.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+    
+    private static final String API_PREFIX = "/api/countries";
+    
+    private static final String HEADER = "Server-Timing";
+    
+    private final int statementBudget;
+    
+    public ServerTimingFilter(@Value("${worlder.sql.statement-budget:10}") int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(API_PREFIX) || path.startsWith(API_PREFIX + "/export");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        TimingResponse timed = new TimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timed);
+            // Responses without a body (304, 204) never reach the output stream.
+            timed.writeHeader();
+            if (timing.getStatementCount() > statementBudget) {
+                log.warn("{} {} executed {} SQL statements (budget {})", request.getMethod(),
+                        request.getRequestURI(), timing.getStatementCount(), statementBudget);
+            }
+        } finally {
+            RequestTiming.clear();
+        }
+    }
+    
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+        
+        private final RequestTiming timing;
+        
+        private ServletOutputStream outputStream;
+        
+        private boolean headerWritten;
+        
+        private TimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+        
+        private void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, timing.toServerTimingHeader());
+            }
+            headerWritten = true;
+        }
+        
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TimingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+        
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+        
+        private final class TimingOutputStream extends ServletOutputStream {
+            
+            private final ServletOutputStream delegate;
+            
+            private TimingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+            
+            @Override
+            public void write(int b) throws IOException {
+                writeHeader();
+                delegate.write(b);
+            }
+            
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeHeader();
+                delegate.write(b, off, len);
+            }
+            
+            @Override
+            public void flush() throws IOException {
+                writeHeader();
+                delegate.flush();
+            }
+            
+            @Override
+            public void close() throws IOException {
+                writeHeader();
+                delegate.close();
+            }
+            
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+            
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
\ No newline at end of file
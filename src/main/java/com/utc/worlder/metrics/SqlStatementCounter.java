@@ -0,0 +1,19 @@
+package com.utc.worlder.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current request. Statements issued through
+ * {@code JdbcTemplate} (batch ingest) bypass Hibernate and are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    
+    @Override
+    public String inspect(String sql) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.incrementStatements();
+        }
+        return sql;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.utc.worlder.repository;
+
+public interface CountryCacheControl {
+    
+    /**
+     * Drops cached {@code Country} entities and query results. Needed after writes that go through
+     * JDBC rather than Hibernate, which Hibernate cannot see.
+     */
+    void evictCaches();
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.utc.worlder.repository;
+
+import com.utc.worlder.entity.Country;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+public class CountryCacheControlImpl implements CountryCacheControl {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    public CountryCacheControlImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+    
+    @Override
+    public void evictCaches() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Country.class);
+        cache.evictQueryRegions();
+    }
+}
\ No newline at end of file
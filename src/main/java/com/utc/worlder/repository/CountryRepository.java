@@ -1,20 +1,35 @@
 package com.utc.worlder.repository;
 
 import com.utc.worlder.entity.Country;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface CountryRepository extends JpaRepository<Country, Long> {
+@Transactional(readOnly = true)
+public interface CountryRepository extends JpaRepository<Country, Long>, CountryCacheControl {
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Country> findByName(String name);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Country> findByIsoCode(String isoCode);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Country> findByContinent(String continent);
     
     @Query("SELECT c FROM Country c WHERE c.population > :minPopulation")
@@ -23,6 +38,53 @@ public interface CountryRepository extends JpaRepository<Country, Long> {
     @Query("SELECT c FROM Country c WHERE c.area > :minArea")
     List<Country> findCountriesWithAreaGreaterThan(Double minArea);
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT c.continent FROM Country c")
     List<String> findAllContinents();
+    
+    @Query("SELECT c FROM Country c ORDER BY c.id")
+    List<Country> findPageOrderById(Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.id > :afterId ORDER BY c.id")
+    List<Country> findPageOrderByIdAfter(Long afterId, Pageable page);
+    
+    @Query("SELECT c FROM Country c ORDER BY c.name, c.id")
+    List<Country> findPageOrderByName(Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.name > :afterName OR (c.name = :afterName AND c.id > :afterId) ORDER BY c.name, c.id")
+    List<Country> findPageOrderByNameAfter(String afterName, Long afterId, Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.population IS NOT NULL ORDER BY c.population, c.id")
+    List<Country> findPageOrderByPopulation(Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.population > :afterPopulation OR (c.population = :afterPopulation AND c.id > :afterId) ORDER BY c.population, c.id")
+    List<Country> findPageOrderByPopulationAfter(Long afterPopulation, Long afterId, Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.area IS NOT NULL ORDER BY c.area, c.id")
+    List<Country> findPageOrderByArea(Pageable page);
+    
+    @Query("SELECT c FROM Country c WHERE c.area > :afterArea OR (c.area = :afterArea AND c.id > :afterId) ORDER BY c.area, c.id")
+    List<Country> findPageOrderByAreaAfter(Double afterArea, Long afterId, Pageable page);
+    
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Country c ORDER BY c.id")
+    Stream<Country> streamAllOrderById();
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Country c SET c.name = :#{#country.name}, c.isoCode = :#{#country.isoCode}, "
+            + "c.capital = :#{#country.capital}, c.continent = :#{#country.continent}, "
+            + "c.population = :#{#country.population}, c.area = :#{#country.area}, "
+            + "c.currency = :#{#country.currency}, c.officialLanguage = :#{#country.officialLanguage}, "
+            + "c.latitude = :#{#country.latitude}, c.longitude = :#{#country.longitude} "
+            + "WHERE c.id = :id")
+    int updateCountryById(@Param("id") Long id, @Param("country") Country country);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Country c WHERE c.id = :id")
+    int deleteCountryById(@Param("id") Long id);
 }
\ No newline at end of file
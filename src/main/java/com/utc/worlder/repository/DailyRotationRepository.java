@@ -0,0 +1,18 @@
+package com.utc.worlder.repository;
+
+import com.utc.worlder.entity.DailyRotation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface DailyRotationRepository extends JpaRepository<DailyRotation, Long> {
+    
+    /**
+     * The latest cycle that started on or before {@code day}.
+     */
+    Optional<DailyRotation> findFirstByStartDayLessThanEqualOrderByStartDayDesc(Long day);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.entity.Country;
+
+import java.sql.Statement;
+
+/**
+ * Row checks and JDBC update-count handling shared by the bulk writers.
+ */
+final class BatchRows {
+    
+    static final int MAX_ISO_CODE_LENGTH = 3;
+    
+    private BatchRows() {
+    }
+    
+    /**
+     * Why a full country row cannot be written, or null when it can.
+     */
+    static String validate(Country country) {
+        if (country == null) {
+            return "row is empty";
+        }
+        if (country.getName() == null || country.getName().isBlank()) {
+            return "name is required";
+        }
+        if (country.getIsoCode() == null || country.getIsoCode().isBlank()) {
+            return "isoCode is required";
+        }
+        if (country.getIsoCode().length() > MAX_ISO_CODE_LENGTH) {
+            return "isoCode must be at most 3 characters";
+        }
+        return null;
+    }
+    
+    /**
+     * Whether a batched statement touched its row. Drivers may report {@link Statement#SUCCESS_NO_INFO}
+     * instead of a count, which only says the statement did not fail.
+     */
+    static boolean applied(int updateCount) {
+        return updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.dto.CountrySort;
+import com.utc.worlder.entity.Country;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position {@code (sortKey, id)} of the last row of a page, handed to clients as {@code after}.
+ */
+record CountryCursor(CountrySort sort, long id, String value) {
+
+    private static final String SEPARATOR = "|";
+
+    static CountryCursor after(CountrySort sort, Country last) {
+        String value = switch (sort) {
+            case ID -> "";
+            case NAME -> last.getName();
+            case POPULATION -> String.valueOf(last.getPopulation());
+            case AREA -> String.valueOf(last.getArea());
+        };
+        return new CountryCursor(sort, last.getId(), value);
+    }
+
+    static CountryCursor decode(String token, CountrySort expectedSort) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+
+        String[] parts = decoded.split("\\|", 3);
+        if (parts.length != 3 || !parts[0].equals(expectedSort.parameterName())) {
+            throw new IllegalArgumentException("Cursor does not match sort key " + expectedSort.parameterName());
+        }
+        return new CountryCursor(expectedSort, Long.parseLong(parts[1]), parts[2]);
+    }
+
+    String encode() {
+        String raw = sort.parameterName() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    long longValue() {
+        return Long.parseLong(value);
+    }
+
+    double doubleValue() {
+        return Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,125 @@
+package com.utc.worlder.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.utc.worlder.dto.ExportFormat;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class CountryExportService {
+    
+    private static final String CSV_HEADER =
+            "id,name,iso_code,capital,continent,population,area,currency,official_language,latitude,longitude";
+    
+    private final CountryRepository countryRepository;
+    
+    private final EntityManager entityManager;
+    
+    private final ObjectWriter rowWriter;
+    
+    private final int flushInterval;
+    
+    @Autowired
+    public CountryExportService(CountryRepository countryRepository,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper,
+                                @Value("${worlder.export.flush-interval:500}") int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("worlder.export.flush-interval must be at least 1: " + flushInterval);
+        }
+        this.countryRepository = countryRepository;
+        this.entityManager = entityManager;
+        this.rowWriter = objectMapper.writerFor(Country.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushInterval = flushInterval;
+    }
+    
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Country> rows = countryRepository.streamAllOrderById()) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(rows.iterator(), out);
+            } else {
+                writeNdjson(rows.iterator(), out);
+            }
+        }
+    }
+    
+    private void writeNdjson(Iterator<Country> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = rowWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long written = 0;
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                if (++written % flushInterval == 0) {
+                    releaseWrittenRows();
+                    generator.flush();
+                }
+            }
+        }
+    }
+    
+    private void writeCsv(Iterator<Country> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long written = 0;
+        while (rows.hasNext()) {
+            Country country = rows.next();
+            writer.write(String.valueOf(country.getId()));
+            writeCsvField(writer, country.getName());
+            writeCsvField(writer, country.getIsoCode());
+            writeCsvField(writer, country.getCapital());
+            writeCsvField(writer, country.getContinent());
+            writeCsvField(writer, country.getPopulation());
+            writeCsvField(writer, country.getArea());
+            writeCsvField(writer, country.getCurrency());
+            writeCsvField(writer, country.getOfficialLanguage());
+            writeCsvField(writer, country.getLatitude());
+            writeCsvField(writer, country.getLongitude());
+            writer.write('\n');
+            if (++written % flushInterval == 0) {
+                releaseWrittenRows();
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+    
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    private void releaseWrittenRows() {
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,135 @@
+package com.utc.worlder.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.entity.Country;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CountryIngestService {
+    
+    // ON CONFLICT DO NOTHING only skips uniqueness conflicts; unlike INSERT OR IGNORE it still fails the
+    // chunk on other constraint violations instead of reporting them as duplicates.
+    private static final String INSERT_SQL =
+            "INSERT INTO countries (name, iso_code, capital, continent, population, area, currency, official_language, "
+            + "latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    private final ObjectReader countryReader;
+    
+    private final CountryService countryService;
+    
+    private final int chunkSize;
+    
+    @Autowired
+    public CountryIngestService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                CountryService countryService,
+                                @Value("${worlder.ingest.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.countryReader = objectMapper.readerFor(Country.class);
+        this.countryService = countryService;
+        this.chunkSize = chunkSize;
+    }
+    
+    public BatchResponse ingest(InputStream body) throws IOException {
+        List<BatchResult> results = new ArrayList<>();
+        List<Country> chunk = new ArrayList<>(chunkSize);
+        int chunkStart = 0;
+        
+        try (MappingIterator<Country> rows = countryReader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, chunkStart, results);
+                    chunkStart += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, chunkStart, results);
+            }
+        } finally {
+            if (results.stream().anyMatch(result -> result.status() == BatchResult.Status.CREATED)) {
+                countryService.refreshSnapshot();
+            }
+        }
+        return BatchResponse.of(results);
+    }
+    
+    private void writeChunk(List<Country> chunk, int chunkStart, List<BatchResult> results) {
+        List<Country> valid = new ArrayList<>(chunk.size());
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        BatchResult[] chunkResults = new BatchResult[chunk.size()];
+        
+        for (int i = 0; i < chunk.size(); i++) {
+            Country country = chunk.get(i);
+            String problem = BatchRows.validate(country);
+            if (problem != null) {
+                String isoCode = country != null ? country.getIsoCode() : null;
+                chunkResults[i] = new BatchResult(chunkStart + i, isoCode, BatchResult.Status.INVALID, problem);
+            } else {
+                valid.add(country);
+                validIndexes.add(i);
+            }
+        }
+        
+        if (!valid.isEmpty()) {
+            int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, new CountryBatchSetter(valid)));
+            for (int i = 0; i < valid.size(); i++) {
+                int index = validIndexes.get(i);
+                chunkResults[index] = BatchRows.applied(counts[i])
+                        ? BatchResult.of(chunkStart + index, valid.get(i).getIsoCode(), BatchResult.Status.CREATED)
+                        : new BatchResult(chunkStart + index, valid.get(i).getIsoCode(), BatchResult.Status.DUPLICATE,
+                                "A country with this name or ISO code already exists");
+            }
+        }
+        
+        results.addAll(List.of(chunkResults));
+    }
+    
+    private record CountryBatchSetter(List<Country> countries) implements BatchPreparedStatementSetter {
+        
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Country country = countries.get(i);
+            ps.setString(1, country.getName());
+            ps.setString(2, country.getIsoCode());
+            ps.setString(3, country.getCapital());
+            ps.setString(4, country.getContinent());
+            ps.setObject(5, country.getPopulation(), Types.BIGINT);
+            ps.setObject(6, country.getArea(), Types.DOUBLE);
+            ps.setString(7, country.getCurrency());
+            ps.setString(8, country.getOfficialLanguage());
+            ps.setObject(9, country.getLatitude(), Types.DOUBLE);
+            ps.setObject(10, country.getLongitude(), Types.DOUBLE);
+        }
+        
+        @Override
+        public int getBatchSize() {
+            return countries.size();
+        }
+    }
+}
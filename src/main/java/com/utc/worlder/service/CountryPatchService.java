@@ -0,0 +1,181 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.dto.CountryPatch;
+import com.utc.worlder.entity.Country;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Partial updates written straight to the table: each statement sets only the supplied columns and
+ * nothing is loaded into the persistence context. Consecutive bulk patches that touch the same set of
+ * columns run as a single JDBC batch; groups run in request order, so the last patch of a repeated ISO
+ * code wins.
+ */
+@Service
+public class CountryPatchService {
+    
+    private static final String[] COLUMNS = {
+            "name", "iso_code", "capital", "continent", "population", "area", "currency", "official_language",
+            "latitude", "longitude"
+    };
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    private final CountryService countryService;
+    
+    @Autowired
+    public CountryPatchService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               CountryService countryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.countryService = countryService;
+    }
+    
+    public Optional<Country> patch(Long id, CountryPatch patch) {
+        String problem = validate(patch, true);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        
+        Object[] values = columnValues(patch, true);
+        int columns = columnMask(values);
+        Integer updated = transactionTemplate.execute(status ->
+                jdbcTemplate.update(updateSql(columns, "id"), arguments(values, columns, id)));
+        if (updated == null || updated == 0) {
+            return Optional.empty();
+        }
+        
+        countryService.refreshSnapshot();
+        return countryService.getCountryById(id);
+    }
+    
+    public BatchResponse patchByIsoCode(List<CountryPatch> patches) {
+        BatchResult[] results = new BatchResult[patches.size()];
+        List<PatchGroup> groups = new ArrayList<>();
+        PatchGroup group = null;
+        
+        for (int i = 0; i < patches.size(); i++) {
+            CountryPatch patch = patches.get(i);
+            String problem = validate(patch, false);
+            if (problem != null) {
+                String isoCode = patch != null ? patch.isoCode() : null;
+                results[i] = new BatchResult(i, isoCode, BatchResult.Status.INVALID, problem);
+            } else {
+                int columns = columnMask(columnValues(patch, false));
+                if (group == null || group.columns() != columns || !group.isoCodes().add(patch.isoCode())) {
+                    group = new PatchGroup(columns, new ArrayList<>(), new HashSet<>(Set.of(patch.isoCode())));
+                    groups.add(group);
+                }
+                group.indexes().add(i);
+            }
+        }
+        
+        if (!groups.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> groups.forEach(batch -> {
+                List<Object[]> batchArgs = new ArrayList<>(batch.indexes().size());
+                for (int index : batch.indexes()) {
+                    CountryPatch patch = patches.get(index);
+                    batchArgs.add(arguments(columnValues(patch, false), batch.columns(), patch.isoCode()));
+                }
+                int[] counts = jdbcTemplate.batchUpdate(updateSql(batch.columns(), "iso_code"), batchArgs);
+                for (int i = 0; i < batch.indexes().size(); i++) {
+                    int index = batch.indexes().get(i);
+                    results[index] = BatchRows.applied(counts[i])
+                            ? BatchResult.of(index, patches.get(index).isoCode(), BatchResult.Status.UPDATED)
+                            : new BatchResult(index, patches.get(index).isoCode(), BatchResult.Status.NOT_FOUND,
+                                    "No country with this ISO code");
+                }
+            }));
+        }
+        
+        BatchResponse response = BatchResponse.of(List.of(results));
+        if (response.updated() > 0) {
+            countryService.refreshSnapshot();
+        }
+        return response;
+    }
+    
+    private String validate(CountryPatch patch, boolean byId) {
+        if (patch == null) {
+            return "patch is empty";
+        }
+        if (!byId && (patch.isoCode() == null || patch.isoCode().isBlank())) {
+            return "isoCode is required";
+        }
+        if (columnMask(columnValues(patch, byId)) == 0) {
+            return "no fields to update";
+        }
+        if (patch.name() != null && patch.name().isBlank()) {
+            return "name must not be blank";
+        }
+        if (byId && patch.isoCode() != null && (patch.isoCode().isBlank() || patch.isoCode().length() > BatchRows.MAX_ISO_CODE_LENGTH)) {
+            return "isoCode must be 1 to 3 characters";
+        }
+        return null;
+    }
+    
+    private static Object[] columnValues(CountryPatch patch, boolean includeIsoCode) {
+        return new Object[] {
+                patch.name(),
+                includeIsoCode ? patch.isoCode() : null,
+                patch.capital(),
+                patch.continent(),
+                patch.population(),
+                patch.area(),
+                patch.currency(),
+                patch.officialLanguage(),
+                patch.latitude(),
+                patch.longitude()
+        };
+    }
+    
+    private static int columnMask(Object[] values) {
+        int mask = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+    
+    private static String updateSql(int columns, String keyColumn) {
+        StringJoiner assignments = new StringJoiner(", ");
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if ((columns & (1 << i)) != 0) {
+                assignments.add(COLUMNS[i] + " = ?");
+            }
+        }
+        return "UPDATE countries SET " + assignments + " WHERE " + keyColumn + " = ?";
+    }
+    
+    private static Object[] arguments(Object[] values, int columns, Object key) {
+        Object[] arguments = new Object[Integer.bitCount(columns) + 1];
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            if ((columns & (1 << i)) != 0) {
+                arguments[position++] = values[i];
+            }
+        }
+        arguments[position] = key;
+        return arguments;
+    }
+    
+    private record PatchGroup(int columns, List<Integer> indexes, Set<String> isoCodes) {
+    }
+}
\ No newline at end of file
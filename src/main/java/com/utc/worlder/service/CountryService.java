@@ -1,68 +1,307 @@
 package com.utc.worlder.service;
 
+import com.utc.worlder.concurrent.SingleFlight;
+import com.utc.worlder.dto.BatchLookupResponse;
+import com.utc.worlder.dto.CountryDistance;
+import com.utc.worlder.dto.CountryPage;
+import com.utc.worlder.dto.CountrySort;
+import com.utc.worlder.dto.LookupResult;
+import com.utc.worlder.dto.NearbyCountry;
 import com.utc.worlder.entity.Country;
+import com.utc.worlder.index.DistanceMatrix;
+import com.utc.worlder.index.GeoIndex;
 import com.utc.worlder.repository.CountryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class CountryService {
     
+    // 4096 located countries is a 64 MB matrix; rows past that are computed on demand.
+    private static final int MAX_DISTANCE_MATRIX_SIZE = 4096;
+    
     private final CountryRepository countryRepository;
     
+    private final AtomicReference<CountrySnapshot> snapshot = new AtomicReference<>();
+    
+    private final AtomicLong datasetVersion = new AtomicLong(System.currentTimeMillis());
+    
+    // A lock rather than synchronized: the snapshot is loaded while holding it, and a JDBC call inside a
+    // monitor would pin the carrier thread when requests run on virtual threads.
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    
+    private final SingleFlight<PageRequestKey, CountryPage> pageLoads = new SingleFlight<>();
+    
+    private final DistanceMatrix<Country> distances = new DistanceMatrix<>(
+            Country::getId, Country::getLatitude, Country::getLongitude, MAX_DISTANCE_MATRIX_SIZE);
+    
     @Autowired
     public CountryService(CountryRepository countryRepository) {
         this.countryRepository = countryRepository;
     }
     
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpSnapshot() {
+        snapshot();
+    }
+    
     public List<Country> getAllCountries() {
-        return countryRepository.findAll();
+        return snapshot().getCountries();
+    }
+    
+    public CountryPage getCountriesPage(CountrySort sort, String after, int limit) {
+        return pageLoads.execute(new PageRequestKey(sort, after, limit), () -> loadPage(sort, after, limit));
     }
     
     public Optional<Country> getCountryById(Long id) {
-        return countryRepository.findById(id);
+        return snapshot().findById(id);
     }
     
     public Optional<Country> getCountryByName(String name) {
-        return countryRepository.findByName(name);
+        return snapshot().findByName(name);
     }
     
     public Optional<Country> getCountryByIsoCode(String isoCode) {
-        return countryRepository.findByIsoCode(isoCode);
+        return snapshot().findByIsoCode(isoCode);
+    }
+    
+    public BatchLookupResponse getCountriesByIds(List<Long> ids) {
+        CountrySnapshot current = snapshot();
+        List<LookupResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Country country = current.findById(id).orElse(null);
+            results.add(new LookupResult(String.valueOf(id), country != null, country));
+        }
+        return BatchLookupResponse.of(results);
+    }
+    
+    public BatchLookupResponse getCountriesByIsoCodes(List<String> isoCodes) {
+        CountrySnapshot current = snapshot();
+        List<LookupResult> results = new ArrayList<>(isoCodes.size());
+        for (String isoCode : isoCodes) {
+            Country country = current.findByIsoCode(isoCode).orElse(null);
+            results.add(new LookupResult(isoCode, country != null, country));
+        }
+        return BatchLookupResponse.of(results);
     }
     
     public List<Country> getCountriesByContinent(String continent) {
-        return countryRepository.findByContinent(continent);
+        return snapshot().findByContinent(continent);
     }
     
     public List<Country> getCountriesWithPopulationGreaterThan(Long minPopulation) {
-        return countryRepository.findCountriesWithPopulationGreaterThan(minPopulation);
+        return snapshot().findWithPopulationGreaterThan(minPopulation);
+    }
+    
+    public List<Country> getCountriesWithPopulationLessThan(Long maxPopulation) {
+        return snapshot().findWithPopulationLessThan(maxPopulation);
+    }
+    
+    public List<Country> getCountriesWithPopulationBetween(Long minPopulation, Long maxPopulation) {
+        return snapshot().findWithPopulationBetween(
+                minPopulation != null ? minPopulation : Long.MIN_VALUE,
+                maxPopulation != null ? maxPopulation : Long.MAX_VALUE);
     }
     
     public List<Country> getCountriesWithAreaGreaterThan(Double minArea) {
-        return countryRepository.findCountriesWithAreaGreaterThan(minArea);
+        return snapshot().findWithAreaGreaterThan(minArea);
+    }
+    
+    public List<Country> getCountriesWithAreaLessThan(Double maxArea) {
+        return snapshot().findWithAreaLessThan(maxArea);
+    }
+    
+    public List<Country> getCountriesWithAreaBetween(Double minArea, Double maxArea) {
+        return snapshot().findWithAreaBetween(
+                minArea != null ? minArea : Double.NEGATIVE_INFINITY,
+                maxArea != null ? maxArea : Double.POSITIVE_INFINITY);
+    }
+    
+    public Optional<List<NearbyCountry>> getNearestCountries(Long id, int k) {
+        CountrySnapshot current = snapshot();
+        return current.findById(id)
+                .filter(CountryService::isLocated)
+                .map(country -> toNearby(current.findNearest(country, k)));
+    }
+    
+    public List<NearbyCountry> getCountriesNear(double latitude, double longitude, double radiusKm) {
+        return toNearby(snapshot().findWithinRadius(latitude, longitude, radiusKm));
+    }
+    
+    public Optional<CountryDistance> getDistance(Long fromId, Long toId) {
+        int cell = getDistanceCell(fromId, toId);
+        return cell >= 0 ? Optional.of(CountryDistance.of(fromId, toId, cell)) : Optional.empty();
+    }
+    
+    /**
+     * The packed {@link DistanceMatrix} cell between two countries, or -1 when either is unknown or has
+     * no centroid.
+     */
+    public int getDistanceCell(Long fromId, Long toId) {
+        CountrySnapshot current = snapshot();
+        int cell = distances.cell(fromId, toId);
+        if (cell >= 0) {
+            return cell;
+        }
+        
+        Country from = current.findById(fromId).filter(CountryService::isLocated).orElse(null);
+        Country to = current.findById(toId).filter(CountryService::isLocated).orElse(null);
+        if (from == null || to == null) {
+            return -1;
+        }
+        return DistanceMatrix.encode(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+    
+    public List<Country> getRandomCountries(String continent, Long minPopulation, int n, boolean weighted) {
+        return snapshot().sampleRandom(continent, minPopulation, n, weighted, ThreadLocalRandom.current());
     }
     
     public List<String> getAllContinents() {
-        return countryRepository.findAllContinents();
+        return snapshot().getContinents();
     }
     
     public Country saveCountry(Country country) {
-        return countryRepository.save(country);
+        Country savedCountry = countryRepository.save(country);
+        refreshSnapshotAfterCommit();
+        return savedCountry;
     }
     
-    public void deleteCountry(Long id) {
-        countryRepository.deleteById(id);
+    public Optional<Country> updateCountry(Long id, Country country) {
+        if (countryRepository.updateCountryById(id, country) == 0) {
+            return Optional.empty();
+        }
+        refreshSnapshotAfterCommit();
+        // Inside a caller's transaction the snapshot only refreshes on commit, so read the row back instead.
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                ? countryRepository.findById(id)
+                : snapshot().findById(id);
+    }
+    
+    public boolean deleteCountry(Long id) {
+        if (countryRepository.deleteCountryById(id) == 0) {
+            return false;
+        }
+        refreshSnapshotAfterCommit();
+        return true;
     }
     
     public boolean existsById(Long id) {
-        return countryRepository.existsById(id);
+        return snapshot().containsId(id);
     }
     
     public long getTotalCountriesCount() {
-        return countryRepository.count();
+        return snapshot().size();
+    }
+    
+    public long getDatasetVersion() {
+        return datasetVersion.get();
+    }
+    
+    public long getCoalescedPageLoadCount() {
+        return pageLoads.getCoalescedCount();
+    }
+    
+    public long getDistanceMatrixBytes() {
+        return distances.offHeapBytes();
+    }
+    
+    public void refreshSnapshot() {
+        snapshotLock.lock();
+        try {
+            countryRepository.evictCaches();
+            CountrySnapshot refreshed = CountrySnapshot.of(countryRepository.findAll());
+            distances.synchronize(refreshed.getCountries());
+            snapshot.set(refreshed);
+            datasetVersion.incrementAndGet();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+    
+    CountrySnapshot snapshot() {
+        CountrySnapshot current = snapshot.get();
+        return current != null ? current : loadSnapshot();
+    }
+    
+    private CountrySnapshot loadSnapshot() {
+        snapshotLock.lock();
+        try {
+            CountrySnapshot current = snapshot.get();
+            if (current == null) {
+                current = CountrySnapshot.of(countryRepository.findAll());
+                distances.synchronize(current.getCountries());
+                snapshot.set(current);
+            }
+            return current;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+    
+    private void refreshSnapshotAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshSnapshot();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshSnapshot();
+            }
+        });
+    }
+    
+    private static boolean isLocated(Country country) {
+        return country.getLatitude() != null && country.getLongitude() != null;
+    }
+    
+    private static List<NearbyCountry> toNearby(List<GeoIndex.Hit<Country>> hits) {
+        List<NearbyCountry> nearby = new ArrayList<>(hits.size());
+        for (GeoIndex.Hit<Country> hit : hits) {
+            nearby.add(new NearbyCountry(hit.item(), hit.distanceKm()));
+        }
+        return nearby;
+    }
+    
+    private CountryPage loadPage(CountrySort sort, String after, int limit) {
+        CountryCursor cursor = after != null ? CountryCursor.decode(after, sort) : null;
+        Pageable firstRows = PageRequest.of(0, limit + 1);
+        
+        List<Country> rows = switch (sort) {
+            case ID -> cursor == null
+                    ? countryRepository.findPageOrderById(firstRows)
+                    : countryRepository.findPageOrderByIdAfter(cursor.id(), firstRows);
+            case NAME -> cursor == null
+                    ? countryRepository.findPageOrderByName(firstRows)
+                    : countryRepository.findPageOrderByNameAfter(cursor.value(), cursor.id(), firstRows);
+            case POPULATION -> cursor == null
+                    ? countryRepository.findPageOrderByPopulation(firstRows)
+                    : countryRepository.findPageOrderByPopulationAfter(cursor.longValue(), cursor.id(), firstRows);
+            case AREA -> cursor == null
+                    ? countryRepository.findPageOrderByArea(firstRows)
+                    : countryRepository.findPageOrderByAreaAfter(cursor.doubleValue(), cursor.id(), firstRows);
+        };
+        
+        boolean hasMore = rows.size() > limit;
+        List<Country> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? CountryCursor.after(sort, items.get(limit - 1)).encode() : null;
+        return new CountryPage(items, sort.parameterName(), limit, nextCursor);
+    }
+    
+    private record PageRequestKey(CountrySort sort, String after, int limit) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.index.DoubleRangeIndex;
+import com.utc.worlder.index.GeoIndex;
+import com.utc.worlder.index.LongRangeIndex;
+import com.utc.worlder.index.RandomSampler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable view of the whole countries table, indexed for the read paths of {@link CountryService}.
+ * A new instance is built after every committed write and swapped in atomically.
+ */
+public final class CountrySnapshot {
+
+    private final List<Country> countries;
+
+    private final Map<Long, Country> byId;
+
+    private final Map<String, Country> byName;
+
+    private final Map<String, Country> byIsoCode;
+
+    private final Map<String, List<Country>> byContinent;
+
+    private final List<String> continents;
+
+    private final LongRangeIndex<Country> byPopulation;
+
+    private final DoubleRangeIndex<Country> byArea;
+
+    private final GeoIndex<Country> byLocation;
+
+    private final GuessTable guessTable;
+
+    private final RandomSampler<Country> sampler;
+
+    private final Map<String, RandomSampler<Country>> samplersByContinent;
+
+    private CountrySnapshot(List<Country> countries) {
+        Map<Long, Country> ids = new HashMap<>();
+        Map<String, Country> names = new HashMap<>();
+        Map<String, Country> isoCodes = new HashMap<>();
+        Map<String, List<Country>> continentGroups = new LinkedHashMap<>();
+
+        for (Country country : countries) {
+            ids.put(country.getId(), country);
+            names.put(country.getName(), country);
+            isoCodes.put(country.getIsoCode(), country);
+            if (country.getContinent() != null) {
+                continentGroups.computeIfAbsent(country.getContinent(), key -> new ArrayList<>()).add(country);
+            }
+        }
+        continentGroups.replaceAll((continent, members) -> Collections.unmodifiableList(members));
+
+        this.countries = Collections.unmodifiableList(new ArrayList<>(countries));
+        this.byId = ids;
+        this.byName = names;
+        this.byIsoCode = isoCodes;
+        this.byContinent = continentGroups;
+        this.continents = List.copyOf(continentGroups.keySet());
+        this.byPopulation = LongRangeIndex.build(this.countries, Country::getPopulation);
+        this.byArea = DoubleRangeIndex.build(this.countries, Country::getArea);
+        this.byLocation = GeoIndex.build(this.countries, Country::getLatitude, Country::getLongitude);
+        this.guessTable = GuessTable.of(this.countries);
+        this.sampler = RandomSampler.build(this.countries, Country::getPopulation);
+        this.samplersByContinent = new HashMap<>();
+        continentGroups.forEach((continent, members) ->
+                samplersByContinent.put(continent, RandomSampler.build(members, Country::getPopulation)));
+    }
+
+    public static CountrySnapshot of(List<Country> countries) {
+        return new CountrySnapshot(countries);
+    }
+
+    public List<Country> getCountries() {
+        return countries;
+    }
+
+    public Optional<Country> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Country> findByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    public Optional<Country> findByIsoCode(String isoCode) {
+        return Optional.ofNullable(byIsoCode.get(isoCode));
+    }
+
+    public List<Country> findByContinent(String continent) {
+        return byContinent.getOrDefault(continent, List.of());
+    }
+
+    public List<Country> findWithPopulationGreaterThan(long minPopulation) {
+        return byPopulation.greaterThan(minPopulation);
+    }
+
+    public List<Country> findWithPopulationLessThan(long maxPopulation) {
+        return byPopulation.lessThan(maxPopulation);
+    }
+
+    public List<Country> findWithPopulationBetween(long minPopulation, long maxPopulation) {
+        return byPopulation.between(minPopulation, maxPopulation);
+    }
+
+    public List<Country> findWithAreaGreaterThan(double minArea) {
+        return byArea.greaterThan(minArea);
+    }
+
+    public List<Country> findWithAreaLessThan(double maxArea) {
+        return byArea.lessThan(maxArea);
+    }
+
+    public List<Country> findWithAreaBetween(double minArea, double maxArea) {
+        return byArea.between(minArea, maxArea);
+    }
+
+    public List<GeoIndex.Hit<Country>> findNearest(Country origin, int k) {
+        if (origin.getLatitude() == null || origin.getLongitude() == null) {
+            return List.of();
+        }
+        return byLocation.nearest(origin.getLatitude(), origin.getLongitude(), k, origin);
+    }
+
+    public List<GeoIndex.Hit<Country>> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        return byLocation.within(latitude, longitude, radiusKm);
+    }
+
+    public List<Country> sampleRandom(String continent, Long minPopulation, int n, boolean weighted,
+                                      RandomGenerator random) {
+        RandomSampler<Country> source = continent == null ? sampler : samplersByContinent.get(continent);
+        return source != null ? source.sample(minPopulation, n, weighted, random) : List.of();
+    }
+
+    GuessTable guessTable() {
+        return guessTable;
+    }
+
+    public List<String> getContinents() {
+        return continents;
+    }
+
+    public boolean containsId(Long id) {
+        return byId.containsKey(id);
+    }
+
+    public int size() {
+        return countries.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.entity.Country;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Insert-or-update keyed by ISO code, one {@code INSERT ... ON CONFLICT(iso_code) DO UPDATE} per
+ * record and no read before it. SQLite reports one change for either outcome, so a batch tells
+ * created from updated rows by the id each statement returns: new rows get an id above the largest
+ * one in the table when the batch started.
+ */
+@Service
+public class CountryUpsertService {
+    
+    private static final String UPSERT_SQL =
+            "INSERT INTO countries (name, iso_code, capital, continent, population, area, currency, official_language, "
+            + "latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT(iso_code) DO UPDATE SET name = excluded.name, capital = excluded.capital, "
+            + "continent = excluded.continent, population = excluded.population, area = excluded.area, "
+            + "currency = excluded.currency, official_language = excluded.official_language, "
+            + "latitude = excluded.latitude, longitude = excluded.longitude";
+    
+    private static final String UPSERT_RETURNING_ID_SQL = UPSERT_SQL + " RETURNING id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    private final CountryService countryService;
+    
+    @Autowired
+    public CountryUpsertService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                CountryService countryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.countryService = countryService;
+    }
+    
+    /**
+     * Writes one country and returns the stored row. Whether it was created or updated is not
+     * reported: telling them apart would cost a read before the write.
+     */
+    public Optional<Country> upsert(String isoCode, Country country) {
+        country.setIsoCode(isoCode);
+        String problem = BatchRows.validate(country);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(UPSERT_SQL, arguments(country)));
+        countryService.refreshSnapshot();
+        return countryService.getCountryByIsoCode(isoCode);
+    }
+    
+    public BatchResponse upsertAll(List<Country> countries) {
+        BatchResult[] results = new BatchResult[countries.size()];
+        List<Integer> validIndexes = new ArrayList<>(countries.size());
+        
+        for (int i = 0; i < countries.size(); i++) {
+            Country country = countries.get(i);
+            String problem = BatchRows.validate(country);
+            if (problem != null) {
+                String isoCode = country != null ? country.getIsoCode() : null;
+                results[i] = new BatchResult(i, isoCode, BatchResult.Status.INVALID, problem);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+        
+        if (!validIndexes.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // One read per batch, on the write connection: nothing else can insert until commit.
+                Long largestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM countries", Long.class);
+                long createdAbove = largestId != null ? largestId : Long.MIN_VALUE;
+                Set<Long> written = new HashSet<>();
+                for (int index : validIndexes) {
+                    Country country = countries.get(index);
+                    Long id = jdbcTemplate.queryForObject(UPSERT_RETURNING_ID_SQL, Long.class, arguments(country));
+                    boolean created = id != null && id > createdAbove && written.add(id);
+                    results[index] = BatchResult.of(index, country.getIsoCode(),
+                            created ? BatchResult.Status.CREATED : BatchResult.Status.UPDATED);
+                }
+            });
+            countryService.refreshSnapshot();
+        }
+        return BatchResponse.of(List.of(results));
+    }
+    
+    private static Object[] arguments(Country country) {
+        return new Object[] {
+                country.getName(),
+                country.getIsoCode(),
+                country.getCapital(),
+                country.getContinent(),
+                country.getPopulation(),
+                country.getArea(),
+                country.getCurrency(),
+                country.getOfficialLanguage(),
+                country.getLatitude(),
+                country.getLongitude()
+        };
+    }
+}
\ No newline at end of file
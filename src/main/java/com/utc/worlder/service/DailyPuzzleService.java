@@ -0,0 +1,213 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.concurrent.SingleFlight;
+import com.utc.worlder.dto.DailyPuzzle;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.entity.DailyRotation;
+import com.utc.worlder.repository.DailyRotationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Picks the country of the day. Each cycle is a seeded shuffle of the located countries that exist when
+ * it starts, played one per day, so no country repeats within a cycle. A cycle's order is stored when it
+ * starts: countries added later wait for the next cycle, and the day of a deleted country goes to the
+ * next surviving one, so neither reshuffles the days left nor changes a pick after a restart.
+ * <p>
+ * The day's pick and the current cycle are kept in memory; the first pick after a cold start and the
+ * first pick of each new cycle read or write {@code daily_rotations}.
+ */
+@Service
+public class DailyPuzzleService {
+    
+    private final CountryService countryService;
+    
+    private final DailyRotationRepository rotationRepository;
+    
+    private final Clock clock;
+    
+    private final ZoneId zone;
+    
+    private final LocalDate epoch;
+    
+    private final long seed;
+    
+    // Every client asks at the same instant after midnight; only one of them computes the new pick.
+    private final SingleFlight<LocalDate, Optional<DailyPuzzle>> picks = new SingleFlight<>();
+    
+    private volatile DailyPuzzle current;
+    
+    private volatile Rotation rotation;
+    
+    // A lock rather than synchronized: cycles are loaded and stored while holding it, and a JDBC call
+    // inside a monitor would pin the carrier thread when requests run on virtual threads.
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    
+    @Autowired
+    public DailyPuzzleService(CountryService countryService,
+                              DailyRotationRepository rotationRepository,
+                              Clock clock,
+                              @Value("${worlder.daily.zone:UTC}") String zone,
+                              @Value("${worlder.daily.epoch:2025-01-01}") String epoch,
+                              @Value("${worlder.daily.seed:0}") long seed) {
+        this.countryService = countryService;
+        this.rotationRepository = rotationRepository;
+        this.clock = clock;
+        this.zone = ZoneId.of(zone);
+        this.epoch = LocalDate.parse(epoch);
+        this.seed = seed;
+    }
+    
+    public Optional<DailyPuzzle> getTodaysPuzzle() {
+        LocalDate today = LocalDate.ofInstant(clock.instant(), zone);
+        DailyPuzzle cached = current;
+        if (cached != null && cached.date().equals(today) && countryService.existsById(cached.countryId())) {
+            return Optional.of(cached);
+        }
+        return picks.execute(today, () -> pick(today));
+    }
+    
+    /**
+     * Seconds a shared cache may keep {@code puzzle}, rounded down so it never outlives the rollover.
+     */
+    public long getSecondsUntilRollover(DailyPuzzle puzzle) {
+        return Math.max(0, Duration.between(clock.instant(), puzzle.expiresAt()).getSeconds());
+    }
+    
+    private Optional<DailyPuzzle> pick(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(epoch, date);
+        long[] ids = locatedIds(countryService.getAllCountries());
+        Rotation shuffle = rotationFor(day, ids);
+        if (shuffle == null) {
+            return Optional.empty();
+        }
+        
+        Long countryId = shuffle.countryOn(day, ids);
+        String isoCode = countryService.getCountryById(countryId).map(Country::getIsoCode).orElse(null);
+        Instant expiresAt = date.plusDays(1).atStartOfDay(zone).toInstant();
+        
+        DailyPuzzle puzzle = new DailyPuzzle(date, day + 1, countryId, isoCode, expiresAt);
+        current = puzzle;
+        return Optional.of(puzzle);
+    }
+    
+    /**
+     * The cycle covering {@code day}, from memory or storage. Cycles that have not started yet are created
+     * back to back from the current ids; a cycle whose countries were all deleted is cut short.
+     */
+    private Rotation rotationFor(long day, long[] ids) {
+        rotationLock.lock();
+        try {
+            Rotation cached = rotation;
+            if (cached == null || !cached.covers(day)) {
+                cached = rotationRepository.findFirstByStartDayLessThanEqualOrderByStartDayDesc(day)
+                        .map(Rotation::of)
+                        .orElse(null);
+            }
+            
+            while (cached == null || !cached.covers(day) || !cached.hasSurvivor(ids)) {
+                if (ids.length == 0) {
+                    return null;
+                }
+                long cycle;
+                long startDay;
+                if (cached == null) {
+                    cycle = Math.floorDiv(day, ids.length);
+                    startDay = cycle * ids.length;
+                } else {
+                    cycle = cached.cycle() + 1;
+                    startDay = cached.covers(day) ? day : cached.endDay();
+                }
+                cached = new Rotation(cycle, startDay, shuffled(cycle, ids));
+                rotationRepository.save(cached.toEntity());
+            }
+            
+            rotation = cached;
+            return cached;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+    
+    private long[] shuffled(long cycle, long[] ids) {
+        long[] order = ids.clone();
+        SplittableRandom random = new SplittableRandom(seed ^ (cycle * 0x9E3779B97F4A7C15L));
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+    
+    // Sorted so the shuffle depends only on the set of ids, not on snapshot order.
+    private static long[] locatedIds(List<Country> countries) {
+        return countries.stream()
+                .filter(country -> country.getLatitude() != null && country.getLongitude() != null)
+                .mapToLong(Country::getId)
+                .sorted()
+                .toArray();
+    }
+    
+    private record Rotation(long cycle, long startDay, long[] order) {
+        
+        static Rotation of(DailyRotation entity) {
+            long[] order = Arrays.stream(entity.getCountryIds().split(","))
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+            return new Rotation(entity.getCycle(), entity.getStartDay(), order);
+        }
+        
+        DailyRotation toEntity() {
+            StringJoiner countryIds = new StringJoiner(",");
+            for (long id : order) {
+                countryIds.add(Long.toString(id));
+            }
+            return new DailyRotation(cycle, startDay, countryIds.toString());
+        }
+        
+        long endDay() {
+            return startDay + order.length;
+        }
+        
+        boolean covers(long day) {
+            return day >= startDay && day < endDay();
+        }
+        
+        boolean hasSurvivor(long[] ids) {
+            for (long id : order) {
+                if (Arrays.binarySearch(ids, id) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        // The day's own country, or the first surviving one after it (wrapping) if it was deleted.
+        Long countryOn(long day, long[] ids) {
+            int position = (int) (day - startDay);
+            for (int offset = 0; offset < order.length; offset++) {
+                long id = order[(position + offset) % order.length];
+                if (Arrays.binarySearch(ids, id) >= 0) {
+                    return id;
+                }
+            }
+            return null;
+        }
+    }
+}
\ No newline at end of file
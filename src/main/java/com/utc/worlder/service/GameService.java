@@ -0,0 +1,70 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.dto.GuessFeedback;
+import com.utc.worlder.dto.GuessResponse;
+import com.utc.worlder.index.DistanceMatrix;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class GameService {
+    
+    private final CountryService countryService;
+    
+    @Autowired
+    public GameService(CountryService countryService) {
+        this.countryService = countryService;
+    }
+    
+    /**
+     * Scores every guess against the target from the snapshot's {@link GuessTable} and the distance
+     * matrix. Empty when the target ISO code is unknown; unknown guesses get a feedback entry with
+     * {@code known = false}.
+     */
+    public Optional<GuessResponse> evaluate(String target, List<String> guesses) {
+        GuessTable table = countryService.snapshot().guessTable();
+        int targetOrdinal = table.ordinalOf(target);
+        if (targetOrdinal < 0) {
+            return Optional.empty();
+        }
+        
+        List<GuessFeedback> results = new ArrayList<>(guesses.size());
+        boolean solved = false;
+        for (String guess : guesses) {
+            GuessFeedback feedback = evaluate(table, targetOrdinal, guess);
+            solved |= feedback.correct();
+            results.add(feedback);
+        }
+        return Optional.of(new GuessResponse(target, solved, results));
+    }
+    
+    private GuessFeedback evaluate(GuessTable table, int target, String guess) {
+        int ordinal = table.ordinalOf(guess);
+        if (ordinal < 0) {
+            return GuessFeedback.unknown(guess);
+        }
+        
+        boolean correct = ordinal == target;
+        // A correct guess reads the diagonal: zero distance when the target is located, -1 when it is not.
+        int cell = countryService.getDistanceCell(table.idAt(ordinal), table.idAt(target));
+        boolean located = cell >= 0;
+        boolean directed = located && !correct;
+        return new GuessFeedback(
+                guess,
+                true,
+                correct,
+                located ? DistanceMatrix.distanceKm(cell) : null,
+                directed ? DistanceMatrix.bearingDegrees(cell) : null,
+                directed ? DistanceMatrix.compassDirection(cell) : null,
+                located ? DistanceMatrix.proximityPercent(cell) : null,
+                table.continent(target, ordinal),
+                table.population(target, ordinal),
+                table.area(target, ordinal),
+                table.currency(target, ordinal),
+                table.officialLanguage(target, ordinal));
+    }
+}
\ No newline at end of file
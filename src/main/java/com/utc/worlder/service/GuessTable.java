@@ -0,0 +1,117 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.dto.GuessFeedback.Match;
+import com.utc.worlder.dto.GuessFeedback.Trend;
+import com.utc.worlder.entity.Country;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar copy of the attributes a guess is scored on, built with each {@link CountrySnapshot}.
+ * Text attributes are interned to small ints up front, so scoring compares primitives and never
+ * touches the entities.
+ */
+final class GuessTable {
+
+    private static final int MISSING = -1;
+
+    private final Map<String, Integer> ordinals;
+
+    private final Long[] ids;
+
+    private final int[] continents;
+
+    private final long[] populations;
+
+    private final boolean[] hasPopulation;
+
+    private final double[] areas;
+
+    private final int[] currencies;
+
+    private final int[] languages;
+
+    private GuessTable(List<Country> countries) {
+        int size = countries.size();
+        this.ordinals = new HashMap<>(size * 2);
+        this.ids = new Long[size];
+        this.continents = new int[size];
+        this.populations = new long[size];
+        this.hasPopulation = new boolean[size];
+        this.areas = new double[size];
+        this.currencies = new int[size];
+        this.languages = new int[size];
+
+        Map<String, Integer> symbols = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Country country = countries.get(i);
+            ordinals.put(country.getIsoCode(), i);
+            ids[i] = country.getId();
+            continents[i] = intern(symbols, country.getContinent());
+            hasPopulation[i] = country.getPopulation() != null;
+            populations[i] = hasPopulation[i] ? country.getPopulation() : 0L;
+            areas[i] = country.getArea() != null ? country.getArea() : Double.NaN;
+            currencies[i] = intern(symbols, country.getCurrency());
+            languages[i] = intern(symbols, country.getOfficialLanguage());
+        }
+    }
+
+    static GuessTable of(List<Country> countries) {
+        return new GuessTable(countries);
+    }
+
+    int ordinalOf(String isoCode) {
+        Integer ordinal = isoCode != null ? ordinals.get(isoCode) : null;
+        return ordinal != null ? ordinal : MISSING;
+    }
+
+    Long idAt(int ordinal) {
+        return ids[ordinal];
+    }
+
+    Match continent(int target, int guess) {
+        return match(continents[target], continents[guess]);
+    }
+
+    Match currency(int target, int guess) {
+        return match(currencies[target], currencies[guess]);
+    }
+
+    Match officialLanguage(int target, int guess) {
+        return match(languages[target], languages[guess]);
+    }
+
+    Trend population(int target, int guess) {
+        if (!hasPopulation[target] || !hasPopulation[guess]) {
+            return Trend.UNKNOWN;
+        }
+        return trend(Long.compare(populations[target], populations[guess]));
+    }
+
+    Trend area(int target, int guess) {
+        if (Double.isNaN(areas[target]) || Double.isNaN(areas[guess])) {
+            return Trend.UNKNOWN;
+        }
+        return trend(Double.compare(areas[target], areas[guess]));
+    }
+
+    private static int intern(Map<String, Integer> symbols, String value) {
+        return value != null ? symbols.computeIfAbsent(value, key -> symbols.size()) : MISSING;
+    }
+
+    private static Match match(int target, int guess) {
+        if (target == MISSING || guess == MISSING) {
+            return Match.UNKNOWN;
+        }
+        return target == guess ? Match.SAME : Match.DIFFERENT;
+    }
+
+    private static Trend trend(int comparison) {
+        if (comparison == 0) {
+            return Trend.EQUAL;
+        }
+        return comparison > 0 ? Trend.HIGHER : Trend.LOWER;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS countries (
+    id INTEGER PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    iso_code VARCHAR(3) NOT NULL UNIQUE,
+    capital VARCHAR(255),
+    continent VARCHAR(255),
+    population BIGINT,
+    area DOUBLE,
+    currency VARCHAR(255),
+    official_language VARCHAR(255)
+);
@@ -1,4 +1,6 @@
-INSERT INTO countries (name, iso_code, capital, continent, population, area, currency, official_language) VALUES
+-- Seeds fresh databases only: files baselined from the ddl-auto era keep whatever rows they hold,
+-- including countries deleted since.
+WITH seed (name, iso_code, capital, continent, population, area, currency, official_language) AS (VALUES
 ('France', 'FRA', 'Paris', 'Europe', 67390000, 643801.0, 'Euro', 'French'),
 ('Germany', 'DEU', 'Berlin', 'Europe', 83190556, 357592.0, 'Euro', 'German'),
 ('United Kingdom', 'GBR', 'London', 'Europe', 67530172, 243610.0, 'Pound Sterling', 'English'),
@@ -18,4 +20,8 @@ INSERT INTO countries (name, iso_code, capital, continent, population, area, cur
 ('South Africa', 'ZAF', 'Cape Town', 'Africa', 59310000, 1221037.0, 'South African Rand', 'Afrikaans'),
 ('Nigeria', 'NGA', 'Abuja', 'Africa', 218541000, 923768.0, 'Nigerian Naira', 'English'),
 ('Kenya', 'KEN', 'Nairobi', 'Africa', 54027000, 580367.0, 'Kenyan Shilling', 'Swahili'),
-('Morocco', 'MAR', 'Rabat', 'Africa', 37344000, 446550.0, 'Moroccan Dirham', 'Arabic');
\ No newline at end of file
+('Morocco', 'MAR', 'Rabat', 'Africa', 37344000, 446550.0, 'Moroccan Dirham', 'Arabic')
+)
+INSERT OR IGNORE INTO countries (name, iso_code, capital, continent, population, area, currency, official_language)
+SELECT name, iso_code, capital, continent, population, area, currency, official_language FROM seed
+WHERE NOT EXISTS (SELECT 1 FROM countries);
\ No newline at end of file
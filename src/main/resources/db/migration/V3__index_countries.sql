@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_countries_continent ON countries (continent);
+CREATE INDEX IF NOT EXISTS idx_countries_population ON countries (population);
+CREATE INDEX IF NOT EXISTS idx_countries_area ON countries (area);
+CREATE INDEX IF NOT EXISTS idx_countries_continent_population ON countries (continent, population);
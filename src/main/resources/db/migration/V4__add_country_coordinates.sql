@@ -0,0 +1,23 @@
+ALTER TABLE countries ADD COLUMN latitude DOUBLE;
+ALTER TABLE countries ADD COLUMN longitude DOUBLE;
+
+UPDATE countries SET latitude = 46.2276, longitude = 2.2137 WHERE iso_code = 'FRA';
+UPDATE countries SET latitude = 51.1657, longitude = 10.4515 WHERE iso_code = 'DEU';
+UPDATE countries SET latitude = 55.3781, longitude = -3.4360 WHERE iso_code = 'GBR';
+UPDATE countries SET latitude = 41.8719, longitude = 12.5674 WHERE iso_code = 'ITA';
+UPDATE countries SET latitude = 40.4637, longitude = -3.7492 WHERE iso_code = 'ESP';
+UPDATE countries SET latitude = 37.0902, longitude = -95.7129 WHERE iso_code = 'USA';
+UPDATE countries SET latitude = 56.1304, longitude = -106.3468 WHERE iso_code = 'CAN';
+UPDATE countries SET latitude = 23.6345, longitude = -102.5528 WHERE iso_code = 'MEX';
+UPDATE countries SET latitude = -14.2350, longitude = -51.9253 WHERE iso_code = 'BRA';
+UPDATE countries SET latitude = -38.4161, longitude = -63.6167 WHERE iso_code = 'ARG';
+UPDATE countries SET latitude = 35.8617, longitude = 104.1954 WHERE iso_code = 'CHN';
+UPDATE countries SET latitude = 36.2048, longitude = 138.2529 WHERE iso_code = 'JPN';
+UPDATE countries SET latitude = 20.5937, longitude = 78.9629 WHERE iso_code = 'IND';
+UPDATE countries SET latitude = 35.9078, longitude = 127.7669 WHERE iso_code = 'KOR';
+UPDATE countries SET latitude = -25.2744, longitude = 133.7751 WHERE iso_code = 'AUS';
+UPDATE countries SET latitude = 26.8206, longitude = 30.8025 WHERE iso_code = 'EGY';
+UPDATE countries SET latitude = -30.5595, longitude = 22.9375 WHERE iso_code = 'ZAF';
+UPDATE countries SET latitude = 9.0820, longitude = 8.6753 WHERE iso_code = 'NGA';
+UPDATE countries SET latitude = -0.0236, longitude = 37.9062 WHERE iso_code = 'KEN';
+UPDATE countries SET latitude = 31.7917, longitude = -7.0926 WHERE iso_code = 'MAR';
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS daily_rotations (
+    cycle_number INTEGER PRIMARY KEY,
+    start_day INTEGER NOT NULL,
+    country_ids TEXT NOT NULL
+);
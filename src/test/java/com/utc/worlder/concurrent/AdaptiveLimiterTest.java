@@ -0,0 +1,200 @@
+package com.utc.worlder.concurrent;
+
+import com.utc.worlder.config.AbstractTestBase;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Adaptive Limiter Tests")
+class AdaptiveLimiterTest extends AbstractTestBase {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    @Nested
+    @DisplayName("Limit Adjustment")
+    class LimitAdjustment {
+
+        @Test
+        @DisplayName("Should reject callers beyond the current limit")
+        @Tag("unit")
+        void shouldRejectCallersBeyondLimit() {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10, Duration.ofMillis(100), 0.5);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+
+            assertThat(limiter.getInFlight()).isEqualTo(2);
+            assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should cut the limit multiplicatively on slow or failed requests")
+        @Tag("unit")
+        void shouldCutLimitOnSlowOrFailedRequests() {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(16, 2, 64, Duration.ofMillis(100), 0.5);
+
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+            assertThat(limiter.getLimit()).isEqualTo(8);
+
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+            assertThat(limiter.getLimit()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should never drop below the minimum limit")
+        @Tag("unit")
+        void shouldNeverDropBelowMinimumLimit() {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(4, 2, 64, Duration.ofMillis(100), 0.5);
+
+            for (int i = 0; i < 10; i++) {
+                limiter.tryAcquire();
+                limiter.release(SLOW, false);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should grow the limit additively while it is saturated and fast")
+        @Tag("unit")
+        void shouldGrowLimitWhileSaturatedAndFast() {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 5, Duration.ofMillis(100), 0.5);
+
+            for (int window = 0; window < 20; window++) {
+                int admitted = 0;
+                while (limiter.tryAcquire()) {
+                    admitted++;
+                }
+                for (int i = 0; i < admitted; i++) {
+                    limiter.release(FAST, false);
+                }
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit when it is barely used")
+        @Tag("unit")
+        void shouldNotGrowLimitWhenIdle() {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 100, Duration.ofMillis(100), 0.5);
+
+            for (int i = 0; i < 100; i++) {
+                limiter.tryAcquire();
+                limiter.release(FAST, false);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Shedding Filter")
+    class LoadSheddingFilter {
+
+        @Mock
+        private FilterChain filterChain;
+
+        private ConcurrencyLimitFilter filter;
+
+        @BeforeEach
+        void setUp() {
+            filter = new ConcurrencyLimitFilter(true, 1, 1, 4, 250, 4, 1, 4, 1, 1, 1, 4, 600_000, 0.5, 2);
+        }
+
+        @Test
+        @DisplayName("Should answer 503 with Retry-After once the read limit is reached")
+        @Tag("unit")
+        void shouldShedReadsOverLimit() throws Exception {
+            filter.getReadLimiter().tryAcquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/countries/code/FRA"), response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+            verify(filterChain, never()).doFilter(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep writes admitted while reads are saturated")
+        @Tag("unit")
+        void shouldLimitReadsAndWritesSeparately() throws Exception {
+            filter.getReadLimiter().tryAcquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/countries/1"), response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            verify(filterChain).doFilter(any(), any());
+            assertThat(filter.getWriteLimiter().getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should run bulk writes and the export on their own limit")
+        @Tag("unit")
+        void shouldRunBulkRequestsOnTheirOwnLimit() throws Exception {
+            willAnswer(invocation -> {
+                assertThat(filter.getBulkLimiter().getInFlight()).isEqualTo(1);
+                assertThat(filter.getWriteLimiter().getInFlight()).isZero();
+                TimeUnit.MILLISECONDS.sleep(5);
+                return null;
+            }).given(filterChain).doFilter(any(), any());
+
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/countries/batch"), new MockHttpServletResponse(), filterChain);
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/countries/batch"), new MockHttpServletResponse(), filterChain);
+            filter.doFilter(new MockHttpServletRequest("PATCH", "/api/countries"), new MockHttpServletResponse(), filterChain);
+
+            verify(filterChain, times(3)).doFilter(any(), any());
+            assertThat(filter.getWriteLimiter().getLimit()).isEqualTo(4);
+            assertThat(filter.getBulkLimiter().getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should hold the slot of an async request until it completes")
+        @Tag("unit")
+        void shouldHoldSlotUntilAsyncCompletes() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/countries/export");
+            request.setAsyncSupported(true);
+            willAnswer(invocation -> {
+                request.startAsync();
+                return null;
+            }).given(filterChain).doFilter(any(), any());
+
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            assertThat(filter.getBulkLimiter().getInFlight()).isEqualTo(1);
+            assertThat(filter.getReadLimiter().getInFlight()).isZero();
+
+            request.getAsyncContext().complete();
+
+            assertThat(filter.getBulkLimiter().getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should leave requests outside the country API alone")
+        @Tag("unit")
+        void shouldIgnoreOtherPaths() throws Exception {
+            filter.getReadLimiter().tryAcquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, filterChain);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            verify(filterChain).doFilter(any(), any());
+        }
+    }
+}
\ No newline at end of file
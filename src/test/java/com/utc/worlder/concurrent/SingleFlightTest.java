@@ -0,0 +1,116 @@
+package com.utc.worlder.concurrent;
+
+import com.utc.worlder.config.AbstractTestBase;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest extends AbstractTestBase {
+
+    private static final int CALLERS = 16;
+
+    private SingleFlight<String, String> singleFlight;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the loader once for concurrent callers with the same key")
+    @Tag("unit")
+    void shouldRunLoaderOnceForConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("FRA", () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return "France";
+            })));
+        }
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> singleFlight.getCoalescedCount() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("France");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should share the leader's failure with every waiting caller")
+    @Tag("unit")
+    void shouldShareFailureWithWaitingCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("XXX", () -> {
+            awaitQuietly(release);
+            throw new IllegalStateException("database unavailable");
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.getExecutionCount() == 1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("XXX", () -> "unused"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.getCoalescedCount() == 1);
+        release.countDown();
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::get)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("database unavailable");
+    }
+
+    @Test
+    @DisplayName("Should run again once the previous call has completed")
+    @Tag("unit")
+    void shouldRunAgainAfterCompletion() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("DEU", () -> "Germany " + loads.incrementAndGet());
+        String second = singleFlight.execute("DEU", () -> "Germany " + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("Germany 2");
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce calls for different keys")
+    @Tag("unit")
+    void shouldNotCoalesceDifferentKeys() {
+        String outer = singleFlight.execute("FRA", () -> singleFlight.execute("DEU", () -> "Germany") + "+France");
+
+        assertThat(outer).isEqualTo("Germany+France");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.utc.worlder.config;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Path;
+
+/**
+ * Base for tests against a real SQLite file, which Flyway migrates and seeds with 20 countries. Each
+ * test class gets its own temporary database; the Spring context is closed after the class so the
+ * next class does not reuse one pointing at a deleted file.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=none",
+    "worlder.sqlite.routing.enabled=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public abstract class AbstractSqliteTestBase extends AbstractTestBase {
+
+    @TempDir
+    static Path databaseDir;
+
+    @DynamicPropertySource
+    static void sqliteDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", AbstractSqliteTestBase::databaseUrl);
+    }
+
+    protected static String databaseUrl() {
+        return "jdbc:sqlite:" + databaseDir.resolve("countries.db");
+    }
+}
\ No newline at end of file
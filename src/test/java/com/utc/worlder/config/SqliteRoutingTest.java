@@ -0,0 +1,88 @@
+package com.utc.worlder.config;
+
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = "worlder.sqlite.reader-pool-size=2")
+@DisplayName("SQLite Read/Write Routing Tests")
+class SqliteRoutingTest extends AbstractSqliteTestBase {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("sqliteWriterDataSource")
+    private HikariDataSource writer;
+
+    @Autowired
+    @Qualifier("sqliteReaderDataSource")
+    private HikariDataSource reader;
+
+    @Test
+    @DisplayName("Should hand out read-only connections from the reader pool")
+    @Tag("integration")
+    void shouldHandOutReadOnlyConnectionsFromReaderPool() throws SQLException {
+        assertThat(reader.isReadOnly()).isTrue();
+        assertThat(writer.isReadOnly()).isFalse();
+        try (Connection connection = reader.getConnection()) {
+            assertThat(connection.isReadOnly()).isTrue();
+            assertThatThrownBy(() -> connection.createStatement().executeUpdate("DELETE FROM countries"))
+                .isInstanceOf(SQLException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should run read-only repository calls on the reader pool")
+    @Tag("integration")
+    void shouldRunReadOnlyCallsOnReaderPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Several rounds, so a connection broken while being reset on return would surface on reuse.
+        for (int round = 0; round < 3; round++) {
+            readOnly.executeWithoutResult(status -> {
+                assertThat(countryRepository.findAll()).isNotEmpty();
+                assertThat(reader.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+                assertThat(writer.getHikariPoolMXBean().getActiveConnections()).isZero();
+            });
+        }
+
+        assertThat(reader.getHikariPoolMXBean().getActiveConnections()).isZero();
+        assertThat(reader.getHikariPoolMXBean().getTotalConnections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should run writes on the writer connection")
+    @Tag("integration")
+    void shouldRunWritesOnWriterConnection() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        Country saved = readWrite.execute(status -> {
+            Country country = countryRepository.saveAndFlush(createTestCountry("Routeland", "RTL"));
+            assertThat(writer.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(reader.getHikariPoolMXBean().getActiveConnections()).isZero();
+            return country;
+        });
+
+        assertThat(countryRepository.findByIsoCode("RTL")).hasValueSatisfying(country ->
+            assertThat(country.getId()).isEqualTo(saved.getId()));
+        countryRepository.deleteCountryById(saved.getId());
+    }
+}
\ No newline at end of file
@@ -1,23 +1,46 @@
 package com.utc.worlder.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utc.worlder.cache.JsonResponseCache;
 import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.BatchLookupResponse;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.dto.CountryDistance;
+import com.utc.worlder.dto.CountryPatch;
+import com.utc.worlder.dto.CountryPage;
+import com.utc.worlder.dto.CountrySort;
 import com.utc.worlder.entity.Country;
+import com.utc.worlder.dto.ExportFormat;
+import com.utc.worlder.dto.LookupResult;
+import com.utc.worlder.dto.NearbyCountry;
+import com.utc.worlder.service.CountryExportService;
+import com.utc.worlder.service.CountryIngestService;
+import com.utc.worlder.service.CountryPatchService;
 import com.utc.worlder.service.CountryService;
+import com.utc.worlder.service.CountryUpsertService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -26,6 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CountryController.class)
+@Import(JsonResponseCache.class)
 @DisplayName("Country Controller Web Layer Tests")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class CountryControllerTest extends AbstractTestBase {
@@ -36,9 +60,24 @@ class CountryControllerTest extends AbstractTestBase {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JsonResponseCache responseCache;
+
     @MockitoBean
     private CountryService countryService;
 
+    @MockitoBean
+    private CountryExportService countryExportService;
+
+    @MockitoBean
+    private CountryIngestService countryIngestService;
+
+    @MockitoBean
+    private CountryPatchService countryPatchService;
+
+    @MockitoBean
+    private CountryUpsertService countryUpsertService;
+
     private Country france;
     private Country germany;
     private List<Country> countriesList;
@@ -192,6 +231,328 @@ class CountryControllerTest extends AbstractTestBase {
 
             verify(countryService).getTotalCountriesCount();
         }
+
+        @Test
+        @DisplayName("Should look up several ISO codes in one request")
+        @Tag("web")
+        void shouldLookUpSeveralIsoCodes() throws Exception {
+            given(countryService.getCountriesByIsoCodes(List.of("DEU", "XXX", "FRA")))
+                    .willReturn(BatchLookupResponse.of(List.of(
+                            new LookupResult("DEU", true, germany),
+                            new LookupResult("XXX", false, null),
+                            new LookupResult("FRA", true, france))));
+
+            mockMvc.perform(get("/api/countries/batch").param("codes", "DEU,XXX,FRA"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.found", is(2)))
+                    .andExpect(jsonPath("$.missing", is(1)))
+                    .andExpect(jsonPath("$.results[*].key", contains("DEU", "XXX", "FRA")))
+                    .andExpect(jsonPath("$.results[1].found", is(false)))
+                    .andExpect(jsonPath("$.results[2].country.name", is("France")));
+
+            verify(countryService, never()).getCountryByIsoCode(any());
+        }
+
+        @Test
+        @DisplayName("Should look up several IDs in one request")
+        @Tag("web")
+        void shouldLookUpSeveralIds() throws Exception {
+            given(countryService.getCountriesByIds(List.of(2L, 1L)))
+                    .willReturn(BatchLookupResponse.of(List.of(
+                            new LookupResult("2", true, germany),
+                            new LookupResult("1", true, france))));
+
+            mockMvc.perform(get("/api/countries/batch").param("ids", "2,1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[*].country.isoCode", contains("DEU", "FRA")));
+        }
+
+        @ParameterizedTest(name = "Should reject batch lookup query: ''{0}''")
+        @ValueSource(strings = {"", "?ids=1&codes=FRA", "?ids=abc"})
+        @DisplayName("Should return HTTP 400 for malformed batch lookups")
+        @Tag("parameterized")
+        void shouldReturnHttp400_ForMalformedBatchLookups(String query) throws Exception {
+            mockMvc.perform(get("/api/countries/batch" + query))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional Requests")
+    class ConditionalRequests {
+
+        @Test
+        @DisplayName("Should tag GET responses with the dataset version")
+        @Tag("web")
+        void shouldTagGetResponsesWithDatasetVersion() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(42L);
+            given(countryService.getAllContinents()).willReturn(List.of("Europe"));
+
+            mockMvc.perform(get("/api/countries/continents"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"42\""));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 304 without calling the service when the ETag matches")
+        @Tag("web")
+        void shouldReturnHttp304_WhenETagMatches() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(42L);
+
+            mockMvc.perform(get("/api/countries/count").header("If-None-Match", "\"42\""))
+                    .andExpect(status().isNotModified());
+
+            verify(countryService, never()).getTotalCountriesCount();
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 200 when the dataset changed since the cached ETag")
+        @Tag("web")
+        void shouldReturnHttp200_WhenDatasetChanged() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(43L);
+            given(countryService.getTotalCountriesCount()).willReturn(20L);
+
+            mockMvc.perform(get("/api/countries/count").header("If-None-Match", "\"42\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"43\""))
+                    .andExpect(content().string("20"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Server Timing")
+    class ServerTiming {
+
+        @Test
+        @DisplayName("Should break response time down in a Server-Timing header")
+        @Tag("web")
+        void shouldAddServerTimingHeader() throws Exception {
+            given(countryService.getCountryById(1L)).willReturn(Optional.of(france));
+
+            mockMvc.perform(get("/api/countries/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Server-Timing", allOf(
+                            containsString("db;dur="),
+                            containsString("hydrate;dur="),
+                            containsString("serialize;dur="),
+                            containsString("total;dur="))))
+                    .andExpect(jsonPath("$.name", is("France")));
+        }
+
+        @Test
+        @DisplayName("Should time pre-serialized responses and responses without a body")
+        @Tag("web")
+        void shouldTimeCachedAndBodilessResponses() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(42L);
+            given(countryService.getAllCountries()).willReturn(countriesList);
+
+            mockMvc.perform(get("/api/countries"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Server-Timing", containsString("total;dur=")))
+                    .andExpect(jsonPath("$", hasSize(2)));
+            mockMvc.perform(get("/api/countries").header("If-None-Match", "W/\"42\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("Server-Timing", containsString("total;dur=")));
+        }
+
+        @Test
+        @DisplayName("Should not buffer the streaming export")
+        @Tag("web")
+        void shouldNotAddServerTimingToExport() throws Exception {
+            mockMvc.perform(get("/api/countries/export").param("format", "ndjson"))
+                    .andExpect(header().doesNotExist("Server-Timing"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Response Cache")
+    class ResponseCache {
+
+        @Test
+        @DisplayName("Should serialize a collection once per dataset version")
+        @Tag("web")
+        void shouldSerializeCollectionOncePerDatasetVersion() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(7L);
+            given(countryService.getCountriesByContinent("Europe")).willReturn(countriesList);
+
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(get("/api/countries/continent/{continent}", "Europe"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$", hasSize(2)));
+            }
+
+            verify(countryService, times(1)).getCountriesByContinent("Europe");
+        }
+
+        @Test
+        @DisplayName("Should rebuild the payload after the dataset version changes")
+        @Tag("web")
+        void shouldRebuildPayloadAfterDatasetVersionChanges() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(7L);
+            given(countryService.getAllCountries()).willReturn(countriesList);
+            mockMvc.perform(get("/api/countries"))
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            given(countryService.getDatasetVersion()).willReturn(8L);
+            given(countryService.getAllCountries()).willReturn(List.of(france));
+            mockMvc.perform(get("/api/countries"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Should serve gzip bytes to clients that accept them")
+        @Tag("web")
+        void shouldServeGzipBytesToClientsThatAcceptThem() throws Exception {
+            List<Country> manyCountries = java.util.stream.IntStream.range(0, 50)
+                .mapToObj(i -> createTestCountry("Country " + i, "C" + i))
+                .toList();
+            given(countryService.getAllCountries()).willReturn(manyCountries);
+
+            mockMvc.perform(get("/api/countries").header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("Vary", containsString("Accept-Encoding")));
+        }
+
+        @ParameterizedTest(name = "Should honour Accept-Encoding: {0}")
+        @CsvSource(delimiter = '|', value = {
+            "gzip;q=0          | false",
+            "deflate, gzip;q=0.0 | false",
+            "identity          | false",
+            "*;q=0             | false",
+            "*                 | true",
+            "GZIP;q=0.5        | true",
+            "gzip;q=0, *       | false"
+        })
+        @DisplayName("Should serve gzip only when its q-value allows it")
+        @Tag("parameterized")
+        void shouldServeGzipOnlyWhenQValueAllowsIt(String acceptEncoding, boolean gzip) throws Exception {
+            List<Country> manyCountries = java.util.stream.IntStream.range(0, 50)
+                .mapToObj(i -> createTestCountry("Country " + i, "C" + i))
+                .toList();
+            given(countryService.getAllCountries()).willReturn(manyCountries);
+
+            ResultActions result = mockMvc.perform(get("/api/countries").header("Accept-Encoding", acceptEncoding))
+                    .andExpect(status().isOk());
+            if (gzip) {
+                result.andExpect(header().string("Content-Encoding", "gzip"));
+            } else {
+                result.andExpect(header().doesNotExist("Content-Encoding"))
+                        .andExpect(jsonPath("$", hasSize(50)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should share one cache entry between unknown continents")
+        @Tag("web")
+        void shouldShareCacheEntryBetweenUnknownContinents() throws Exception {
+            given(countryService.getAllContinents()).willReturn(List.of("Europe"));
+            given(countryService.getCountriesByContinent("Atlantis")).willReturn(List.of());
+
+            mockMvc.perform(get("/api/countries/continent/{continent}", "Atlantis"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+            mockMvc.perform(get("/api/countries/continent/{continent}", "Mu"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+
+            verify(countryService, never()).getCountriesByContinent("Mu");
+            assertThat(responseCache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop entries of older dataset versions")
+        @Tag("web")
+        void shouldDropEntriesOfOlderVersions() throws Exception {
+            given(countryService.getDatasetVersion()).willReturn(7L);
+            given(countryService.getAllCountries()).willReturn(countriesList);
+            given(countryService.getAllContinents()).willReturn(List.of("Europe"));
+            mockMvc.perform(get("/api/countries"));
+            mockMvc.perform(get("/api/countries/continents"));
+            assertThat(responseCache.size()).isEqualTo(2);
+
+            given(countryService.getDatasetVersion()).willReturn(8L);
+            mockMvc.perform(get("/api/countries"));
+
+            assertThat(responseCache.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Paginated Operations")
+    class PaginatedOperations {
+
+        @Test
+        @DisplayName("Should return a page with its next cursor")
+        @Tag("web")
+        void shouldReturnPageWithNextCursor() throws Exception {
+            given(countryService.getCountriesPage(CountrySort.NAME, null, 2))
+                .willReturn(new CountryPage(countriesList, "name", 2, "next-token"));
+
+            mockMvc.perform(get("/api/countries")
+                    .param("limit", "2")
+                    .param("sort", "name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].isoCode", is("FRA")))
+                    .andExpect(jsonPath("$.nextCursor", is("next-token")));
+
+            verify(countryService, never()).getAllCountries();
+        }
+
+        @ParameterizedTest(name = "Should reject limit {0}")
+        @ValueSource(ints = {0, -1, 501})
+        @DisplayName("Should return HTTP 400 for out-of-range limits")
+        @Tag("web")
+        void shouldReturnHttp400_ForOutOfRangeLimits(int limit) throws Exception {
+            mockMvc.perform(get("/api/countries").param("limit", String.valueOf(limit)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 for an unknown sort key")
+        @Tag("web")
+        void shouldReturnHttp400_ForUnknownSortKey() throws Exception {
+            mockMvc.perform(get("/api/countries")
+                    .param("limit", "10")
+                    .param("sort", "capital"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Operations")
+    class ExportOperations {
+
+        @Test
+        @DisplayName("Should stream NDJSON export by default")
+        @Tag("web")
+        void shouldStreamNdjsonExportByDefault() throws Exception {
+            willAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write("{\"isoCode\":\"FRA\"}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).given(countryExportService).export(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+            MvcResult result = mockMvc.perform(get("/api/countries/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andExpect(content().string("{\"isoCode\":\"FRA\"}\n"));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 for an unsupported export format")
+        @Tag("web")
+        void shouldReturnHttp400_ForUnsupportedExportFormat() throws Exception {
+            mockMvc.perform(get("/api/countries/export").param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(countryExportService);
+        }
     }
 
     @Nested
@@ -228,6 +589,202 @@ class CountryControllerTest extends AbstractTestBase {
 
             verify(countryService).getCountriesWithAreaGreaterThan(minArea);
         }
+
+        @Test
+        @DisplayName("Should return countries within a population range")
+        @Tag("web")
+        void shouldReturnCountriesWithinPopulationRange() throws Exception {
+            given(countryService.getCountriesWithPopulationBetween(1_000_000L, 10_000_000L))
+                .willReturn(countriesList);
+
+            mockMvc.perform(get("/api/countries/population/range")
+                    .param("min", "1000000")
+                    .param("max", "10000000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            verify(countryService).getCountriesWithPopulationBetween(1_000_000L, 10_000_000L);
+        }
+
+        @Test
+        @DisplayName("Should accept an open-ended area range")
+        @Tag("web")
+        void shouldAcceptOpenEndedAreaRange() throws Exception {
+            given(countryService.getCountriesWithAreaBetween(null, 200_000.0))
+                .willReturn(Arrays.asList(france));
+
+            mockMvc.perform(get("/api/countries/area/range")
+                    .param("max", "200000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name", is("France")));
+
+            verify(countryService).getCountriesWithAreaBetween(null, 200_000.0);
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 when range bounds are inverted")
+        @Tag("web")
+        void shouldReturnHttp400_WhenRangeBoundsAreInverted() throws Exception {
+            mockMvc.perform(get("/api/countries/population/range")
+                    .param("min", "10")
+                    .param("max", "5"))
+                    .andExpect(status().isBadRequest());
+
+            verify(countryService, never()).getCountriesWithPopulationBetween(any(), any());
+        }
+
+        @ParameterizedTest(name = "Should return HTTP 400 for {0}")
+        @ValueSource(strings = {
+            "/api/countries/area/min/NaN",
+            "/api/countries/area/max/Infinity",
+            "/api/countries/area/range?min=NaN",
+            "/api/countries/area/range?max=-Infinity",
+            "/api/countries/area/range?min=1000&max=NaN"
+        })
+        @DisplayName("Should return HTTP 400 when an area bound is not finite")
+        @Tag("parameterized")
+        void shouldReturnHttp400_WhenAreaBoundIsNotFinite(String uri) throws Exception {
+            mockMvc.perform(get(uri))
+                    .andExpect(status().isBadRequest());
+
+            verify(countryService, never()).getCountriesWithAreaGreaterThan(any());
+            verify(countryService, never()).getCountriesWithAreaLessThan(any());
+            verify(countryService, never()).getCountriesWithAreaBetween(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return countries below a maximum population")
+        @Tag("web")
+        void shouldReturnCountriesBelowMaximumPopulation() throws Exception {
+            given(countryService.getCountriesWithPopulationLessThan(10_000_000L))
+                .willReturn(countriesList);
+
+            mockMvc.perform(get("/api/countries/population/max/{maxPopulation}", 10_000_000L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("Should return the nearest countries with their distance")
+        @Tag("web")
+        void shouldReturnNearestCountriesWithDistance() throws Exception {
+            given(countryService.getNearestCountries(1L, 3))
+                .willReturn(Optional.of(List.of(new NearbyCountry(germany, 815.8))));
+
+            mockMvc.perform(get("/api/countries/{id}/nearest", 1L).param("k", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].country.name", is("Germany")))
+                    .andExpect(jsonPath("$[0].distanceKm", is(815.8)));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 404 when the origin country has no coordinates")
+        @Tag("web")
+        void shouldReturnHttp404_WhenOriginHasNoCoordinates() throws Exception {
+            given(countryService.getNearestCountries(99L, 5)).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/countries/{id}/nearest", 99L))
+                    .andExpect(status().isNotFound());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"91, 0, 100", "0, -181, 100", "0, 0, -1"})
+        @DisplayName("Should return HTTP 400 for out-of-range radius search parameters")
+        @Tag("parameterized")
+        void shouldReturnHttp400_ForOutOfRangeRadiusSearch(String parameters) throws Exception {
+            String[] values = parameters.split(", ");
+
+            mockMvc.perform(get("/api/countries/near")
+                    .param("lat", values[0])
+                    .param("lon", values[1])
+                    .param("radiusKm", values[2]))
+                    .andExpect(status().isBadRequest());
+
+            verify(countryService, never()).getCountriesNear(anyDouble(), anyDouble(), anyDouble());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 51})
+        @DisplayName("Should return HTTP 400 when the neighbour count is out of range")
+        @Tag("parameterized")
+        void shouldReturnHttp400_WhenNeighbourCountIsOutOfRange(int k) throws Exception {
+            mockMvc.perform(get("/api/countries/{id}/nearest", 1L).param("k", String.valueOf(k)))
+                    .andExpect(status().isBadRequest());
+
+            verify(countryService, never()).getNearestCountries(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should return random countries without caching or an ETag")
+        @Tag("web")
+        void shouldReturnRandomCountriesWithoutCaching() throws Exception {
+            given(countryService.getRandomCountries("Europe", 1_000_000L, 2, true)).willReturn(countriesList);
+
+            mockMvc.perform(get("/api/countries/random")
+                    .param("continent", "Europe")
+                    .param("minPopulation", "1000000")
+                    .param("n", "2")
+                    .param("weighted", "true")
+                    .header("If-None-Match", "\"42\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "no-store"))
+                    .andExpect(header().doesNotExist("ETag"))
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            verify(countryService, never()).getDatasetVersion();
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 51})
+        @DisplayName("Should return HTTP 400 when the random sample size is out of range")
+        @Tag("parameterized")
+        void shouldReturnHttp400_WhenRandomSampleSizeIsOutOfRange(int n) throws Exception {
+            mockMvc.perform(get("/api/countries/random").param("n", String.valueOf(n)))
+                    .andExpect(status().isBadRequest());
+
+            verify(countryService, never()).getRandomCountries(any(), any(), anyInt(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should return distance and direction between two countries")
+        @Tag("web")
+        void shouldReturnDistanceBetweenTwoCountries() throws Exception {
+            given(countryService.getDistance(1L, 2L))
+                .willReturn(Optional.of(new CountryDistance(1L, 2L, 816, 44.7, "NE", 95)));
+
+            mockMvc.perform(get("/api/countries/{fromId}/to/{toId}", 1L, 2L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.distanceKm", is(816)))
+                    .andExpect(jsonPath("$.direction", is("NE")))
+                    .andExpect(jsonPath("$.proximity", is(95)));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 404 when a distance endpoint is unknown")
+        @Tag("web")
+        void shouldReturnHttp404_WhenDistanceEndpointIsUnknown() throws Exception {
+            given(countryService.getDistance(1L, 99L)).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/countries/{fromId}/to/{toId}", 1L, 99L))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return countries within a radius")
+        @Tag("web")
+        void shouldReturnCountriesWithinRadius() throws Exception {
+            given(countryService.getCountriesNear(48.8566, 2.3522, 700.0))
+                .willReturn(List.of(new NearbyCountry(france, 292.5), new NearbyCountry(germany, 632.7)));
+
+            mockMvc.perform(get("/api/countries/near")
+                    .param("lat", "48.8566")
+                    .param("lon", "2.3522")
+                    .param("radiusKm", "700"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].country.isoCode", contains("FRA", "DEU")));
+        }
     }
 
     @Nested
@@ -256,6 +813,53 @@ class CountryControllerTest extends AbstractTestBase {
             verify(countryService).saveCountry(any(Country.class));
         }
 
+        @Test
+        @DisplayName("Should ingest a batch and report per-row results")
+        @Tag("web")
+        void shouldIngestBatchAndReportPerRowResults() throws Exception {
+            BatchResponse response = BatchResponse.of(List.of(
+                new BatchResult(0, "NEW", BatchResult.Status.CREATED, null),
+                new BatchResult(1, "FRA", BatchResult.Status.DUPLICATE, "A country with this name or ISO code already exists"),
+                new BatchResult(2, null, BatchResult.Status.INVALID, "isoCode is required")
+            ));
+            given(countryIngestService.ingest(any(InputStream.class))).willReturn(response);
+
+            mockMvc.perform(post("/api/countries/batch")
+                    .contentType("application/x-ndjson")
+                    .content("{\"name\":\"New\",\"isoCode\":\"NEW\"}\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created", is(1)))
+                    .andExpect(jsonPath("$.duplicates", is(1)))
+                    .andExpect(jsonPath("$.invalid", is(1)))
+                    .andExpect(jsonPath("$.results[1].status", is("DUPLICATE")));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 when the batch body is malformed")
+        @Tag("web")
+        void shouldReturnHttp400_WhenBatchBodyIsMalformed() throws Exception {
+            given(countryIngestService.ingest(any(InputStream.class)))
+                .willThrow(new com.fasterxml.jackson.core.JsonParseException(null, "Unexpected character"));
+
+            mockMvc.perform(post("/api/countries/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{ invalid json }]"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 when a batch row breaks a constraint other than uniqueness")
+        @Tag("web")
+        void shouldReturnHttp400_WhenBatchRowBreaksConstraint() throws Exception {
+            given(countryIngestService.ingest(any(InputStream.class)))
+                .willThrow(new DataIntegrityViolationException("NOT NULL constraint failed: countries.name"));
+
+            mockMvc.perform(post("/api/countries/batch")
+                    .contentType("application/x-ndjson")
+                    .content("{\"name\":\"New\",\"isoCode\":\"NEW\"}\n"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should update existing country with HTTP 200")
         @Tag("web")
@@ -264,8 +868,7 @@ class CountryControllerTest extends AbstractTestBase {
             Country updatedCountry = createTestCountry("Updated France", "FRA");
             updatedCountry.setId(countryId);
             
-            given(countryService.existsById(countryId)).willReturn(true);
-            given(countryService.saveCountry(any(Country.class))).willReturn(updatedCountry);
+            given(countryService.updateCountry(eq(countryId), any(Country.class))).willReturn(Optional.of(updatedCountry));
 
             mockMvc.perform(put("/api/countries/{id}", countryId)
                     .contentType(MediaType.APPLICATION_JSON)
@@ -274,8 +877,8 @@ class CountryControllerTest extends AbstractTestBase {
                     .andExpect(jsonPath("$.name", is("Updated France")))
                     .andExpect(jsonPath("$.id", is(1)));
 
-            verify(countryService).existsById(countryId);
-            verify(countryService).saveCountry(any(Country.class));
+            verify(countryService).updateCountry(eq(countryId), any(Country.class));
+            verify(countryService, never()).existsById(any());
         }
 
         @Test
@@ -285,14 +888,14 @@ class CountryControllerTest extends AbstractTestBase {
             Long nonExistentId = 999L;
             Country updatedCountry = createTestCountry("Updated Country", "UPD");
             
-            given(countryService.existsById(nonExistentId)).willReturn(false);
+            given(countryService.updateCountry(eq(nonExistentId), any(Country.class))).willReturn(Optional.empty());
 
             mockMvc.perform(put("/api/countries/{id}", nonExistentId)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(updatedCountry)))
                     .andExpect(status().isNotFound());
 
-            verify(countryService).existsById(nonExistentId);
+            verify(countryService).updateCountry(eq(nonExistentId), any(Country.class));
             verify(countryService, never()).saveCountry(any(Country.class));
         }
 
@@ -301,14 +904,13 @@ class CountryControllerTest extends AbstractTestBase {
         @Tag("web")
         void shouldDeleteCountry_WithHttp204() throws Exception {
             Long countryId = 1L;
-            given(countryService.existsById(countryId)).willReturn(true);
-            willDoNothing().given(countryService).deleteCountry(countryId);
+            given(countryService.deleteCountry(countryId)).willReturn(true);
 
             mockMvc.perform(delete("/api/countries/{id}", countryId))
                     .andExpect(status().isNoContent());
 
-            verify(countryService).existsById(countryId);
             verify(countryService).deleteCountry(countryId);
+            verify(countryService, never()).existsById(any());
         }
 
         @Test
@@ -316,13 +918,135 @@ class CountryControllerTest extends AbstractTestBase {
         @Tag("web")
         void shouldReturnHttp404_WhenDeletingNonExistentCountry() throws Exception {
             Long nonExistentId = 999L;
-            given(countryService.existsById(nonExistentId)).willReturn(false);
+            given(countryService.deleteCountry(nonExistentId)).willReturn(false);
 
             mockMvc.perform(delete("/api/countries/{id}", nonExistentId))
                     .andExpect(status().isNotFound());
 
-            verify(countryService).existsById(nonExistentId);
-            verify(countryService, never()).deleteCountry(nonExistentId);
+            verify(countryService).deleteCountry(nonExistentId);
+        }
+
+        @Test
+        @DisplayName("Should patch only the supplied fields with HTTP 200")
+        @Tag("web")
+        void shouldPatchCountry_WithHttp200() throws Exception {
+            Country patched = createTestCountry("France", "FRA");
+            patched.setId(1L);
+            patched.setPopulation(68_000_000L);
+            CountryPatch patch = new CountryPatch(null, null, null, null, 68_000_000L, null, null, null, null, null);
+            given(countryPatchService.patch(1L, patch)).willReturn(Optional.of(patched));
+
+            mockMvc.perform(patch("/api/countries/{id}", 1L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"population\":68000000}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.population", is(68_000_000)));
+
+            verify(countryService, never()).updateCountry(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 404 when patching non-existent country")
+        @Tag("web")
+        void shouldReturnHttp404_WhenPatchingNonExistentCountry() throws Exception {
+            given(countryPatchService.patch(eq(999L), any(CountryPatch.class))).willReturn(Optional.empty());
+
+            mockMvc.perform(patch("/api/countries/{id}", 999L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"area\":1.0}"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 for an empty patch")
+        @Tag("web")
+        void shouldReturnHttp400_ForEmptyPatch() throws Exception {
+            given(countryPatchService.patch(eq(1L), any(CountryPatch.class)))
+                    .willThrow(new IllegalArgumentException("no fields to update"));
+
+            mockMvc.perform(patch("/api/countries/{id}", 1L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should bulk patch countries by ISO code")
+        @Tag("web")
+        void shouldBulkPatchCountriesByIsoCode() throws Exception {
+            given(countryPatchService.patchByIsoCode(anyList())).willReturn(BatchResponse.of(List.of(
+                    new BatchResult(0, "FRA", BatchResult.Status.UPDATED, null),
+                    new BatchResult(1, "XXX", BatchResult.Status.NOT_FOUND, "No country with this ISO code"))));
+
+            mockMvc.perform(patch("/api/countries")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{\"isoCode\":\"FRA\",\"population\":68000000},{\"isoCode\":\"XXX\",\"area\":1.0}]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated", is(1)))
+                    .andExpect(jsonPath("$.notFound", is(1)))
+                    .andExpect(jsonPath("$.results[1].status", is("NOT_FOUND")));
+
+            verify(countryPatchService).patchByIsoCode(argThat(patches -> patches.size() == 2
+                    && patches.get(0).equals(new CountryPatch(null, "FRA", null, null, 68_000_000L, null, null, null, null, null))));
+        }
+
+        @Test
+        @DisplayName("Should return the stored country after an upsert with HTTP 200")
+        @Tag("web")
+        void shouldReturnStoredCountryAfterUpsert_WithHttp200() throws Exception {
+            given(countryUpsertService.upsert(eq("FRA"), any(Country.class))).willReturn(Optional.of(france));
+
+            mockMvc.perform(put("/api/countries/code/{isoCode}", "FRA")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(france)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isoCode", is("FRA")))
+                    .andExpect(jsonPath("$.name", is("France")));
+
+            verify(countryService, never()).existsById(any());
+            verify(countryService, never()).getCountryByIsoCode(any());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 409 when an upsert hits a duplicate name")
+        @Tag("web")
+        void shouldReturnHttp409_WhenUpsertHitsDuplicateName() throws Exception {
+            given(countryUpsertService.upsert(eq("FRX"), any(Country.class)))
+                    .willThrow(new DataIntegrityViolationException("UNIQUE constraint failed: countries.name"));
+
+            mockMvc.perform(put("/api/countries/code/{isoCode}", "FRX")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(france)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Should upsert a batch of countries by ISO code")
+        @Tag("web")
+        void shouldUpsertBatchOfCountries() throws Exception {
+            given(countryUpsertService.upsertAll(anyList())).willReturn(BatchResponse.of(List.of(
+                    new BatchResult(0, "FRA", BatchResult.Status.UPDATED, null),
+                    new BatchResult(1, "DEU", BatchResult.Status.CREATED, null))));
+
+            mockMvc.perform(put("/api/countries/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(countriesList)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created", is(1)))
+                    .andExpect(jsonPath("$.updated", is(1)));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 409 when creating a duplicate country")
+        @Tag("web")
+        void shouldReturnHttp409_WhenCreatingDuplicateCountry() throws Exception {
+            given(countryService.saveCountry(any(Country.class)))
+                    .willThrow(new DataIntegrityViolationException("UNIQUE constraint failed: countries.iso_code"));
+
+            mockMvc.perform(post("/api/countries")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(france)))
+                    .andExpect(status().isConflict());
         }
     }
 
@@ -356,6 +1080,8 @@ class CountryControllerTest extends AbstractTestBase {
 
     @AfterEach
     void tearDown() {
-        reset(countryService);
+        responseCache.clear();
+        reset(countryService, countryExportService, countryIngestService, countryPatchService,
+                countryUpsertService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.utc.worlder.controller;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.DailyPuzzle;
+import com.utc.worlder.dto.GuessFeedback;
+import com.utc.worlder.dto.GuessFeedback.Match;
+import com.utc.worlder.dto.GuessFeedback.Trend;
+import com.utc.worlder.dto.GuessResponse;
+import com.utc.worlder.service.CountryService;
+import com.utc.worlder.service.DailyPuzzleService;
+import com.utc.worlder.service.GameService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(GameController.class)
+@DisplayName("Game Controller Web Layer Tests")
+class GameControllerTest extends AbstractTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GameService gameService;
+
+    @MockitoBean
+    private DailyPuzzleService dailyPuzzleService;
+
+    @MockitoBean
+    private CountryService countryService;
+
+    @Nested
+    @DisplayName("Guess Evaluation")
+    class GuessEvaluation {
+
+        @Test
+        @DisplayName("Should fold a single guess and a batch into one evaluation")
+        @Tag("web")
+        void shouldFoldSingleGuessAndBatch() throws Exception {
+            GuessFeedback feedback = new GuessFeedback("DEU", true, false, 816, 230.9, "SW", 95,
+                Match.SAME, Trend.LOWER, Trend.HIGHER, Match.SAME, Match.DIFFERENT);
+            given(gameService.evaluate("FRA", List.of("DEU", "ESP")))
+                .willReturn(Optional.of(new GuessResponse("FRA", false, List.of(feedback))));
+
+            mockMvc.perform(post("/api/game/guess")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"target\":\"FRA\",\"guess\":\"DEU\",\"guesses\":[\"ESP\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.solved", is(false)))
+                    .andExpect(jsonPath("$.results[0].distanceKm", is(816)))
+                    .andExpect(jsonPath("$.results[0].direction", is("SW")))
+                    .andExpect(jsonPath("$.results[0].population", is("LOWER")))
+                    .andExpect(jsonPath("$.results[0].officialLanguage", is("DIFFERENT")));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 404 when the target is unknown")
+        @Tag("web")
+        void shouldReturnHttp404_WhenTargetIsUnknown() throws Exception {
+            given(gameService.evaluate("XXX", List.of("FRA"))).willReturn(Optional.empty());
+
+            mockMvc.perform(post("/api/game/guess")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"target\":\"XXX\",\"guess\":\"FRA\"}"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 400 without a target or guesses")
+        @Tag("web")
+        void shouldReturnHttp400_WithoutTargetOrGuesses() throws Exception {
+            mockMvc.perform(post("/api/game/guess")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"guess\":\"FRA\"}"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/api/game/guess")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"target\":\"FRA\",\"guesses\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(gameService, never()).evaluate(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Daily Puzzle")
+    class DailyPuzzleOperations {
+
+        @Test
+        @DisplayName("Should let caches keep the puzzle until the rollover")
+        @Tag("web")
+        void shouldLetCachesKeepPuzzleUntilRollover() throws Exception {
+            DailyPuzzle puzzle = new DailyPuzzle(LocalDate.of(2025, 3, 10), 69, 1L, "FRA",
+                Instant.parse("2025-03-11T00:00:00Z"));
+            given(dailyPuzzleService.getTodaysPuzzle()).willReturn(Optional.of(puzzle));
+            given(dailyPuzzleService.getSecondsUntilRollover(puzzle)).willReturn(3_600L);
+
+            mockMvc.perform(get("/api/game/daily"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=3600, public"))
+                    .andExpect(header().string("Expires", "Tue, 11 Mar 2025 00:00:00 GMT"))
+                    .andExpect(jsonPath("$.date", is("2025-03-10")))
+                    .andExpect(jsonPath("$.isoCode", is("FRA")));
+        }
+
+        @Test
+        @DisplayName("Should return HTTP 404 when no country can be picked")
+        @Tag("web")
+        void shouldReturnHttp404_WhenNoCountryCanBePicked() throws Exception {
+            given(dailyPuzzleService.getTodaysPuzzle()).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/game/daily"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.utc.worlder.index;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.entity.Country;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Distance Matrix Tests")
+class DistanceMatrixTest extends AbstractTestBase {
+
+    private DistanceMatrix<Country> matrix;
+
+    private Country france;
+
+    private Country germany;
+
+    private Country spain;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new DistanceMatrix<>(Country::getId, Country::getLatitude, Country::getLongitude, 64);
+        france = country(1L, "France", "FRA", 46.2276, 2.2137);
+        germany = country(2L, "Germany", "DEU", 51.1657, 10.4515);
+        spain = country(3L, "Spain", "ESP", 40.4637, -3.7492);
+    }
+
+    @Test
+    @DisplayName("Should decode distance, bearing, direction and proximity from one cell")
+    @Tag("unit")
+    void shouldDecodeCell() {
+        matrix.synchronize(List.of(france, germany));
+
+        int there = matrix.cell(1L, 2L);
+        int back = matrix.cell(2L, 1L);
+
+        assertThat(DistanceMatrix.distanceKm(there)).isEqualTo(816).isEqualTo(DistanceMatrix.distanceKm(back));
+        assertThat(DistanceMatrix.bearingDegrees(there)).isCloseTo(44.7, within(0.1));
+        assertThat(DistanceMatrix.compassDirection(there)).isEqualTo("NE");
+        assertThat(DistanceMatrix.compassDirection(back)).isEqualTo("SW");
+        assertThat(DistanceMatrix.proximityPercent(there)).isEqualTo(95);
+        assertThat(DistanceMatrix.proximityPercent(matrix.cell(1L, 1L))).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should return -1 for unknown keys and rows without coordinates")
+    @Tag("unit")
+    void shouldReturnMinusOneForMissingRows() {
+        Country unknown = createTestCountry("Unknown", "UNK");
+        unknown.setId(4L);
+
+        matrix.synchronize(List.of(france, unknown));
+
+        assertThat(matrix.size()).isEqualTo(1);
+        assertThat(matrix.cell(1L, 4L)).isEqualTo(-1);
+        assertThat(matrix.cell(99L, 1L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should only recompute added or moved rows")
+    @Tag("unit")
+    void shouldOnlyRecomputeChangedRows() {
+        matrix.synchronize(List.of(france, germany));
+        assertThat(matrix.getLastRecomputed()).isEqualTo(2);
+
+        matrix.synchronize(List.of(france, germany, spain));
+        assertThat(matrix.getLastRecomputed()).isEqualTo(1);
+        assertThat(matrix.cell(3L, 2L)).isEqualTo(DistanceMatrix.encode(40.4637, -3.7492, 51.1657, 10.4515));
+
+        matrix.synchronize(List.of(france, germany, spain));
+        assertThat(matrix.getLastRecomputed()).isZero();
+
+        germany.setLatitude(52.52);
+        germany.setLongitude(13.405);
+        matrix.synchronize(List.of(france, germany, spain));
+        assertThat(matrix.getLastRecomputed()).isEqualTo(1);
+        assertThat(matrix.cell(1L, 2L)).isEqualTo(DistanceMatrix.encode(46.2276, 2.2137, 52.52, 13.405));
+    }
+
+    @Test
+    @DisplayName("Should reuse freed ordinals and keep cells consistent while growing")
+    @Tag("unit")
+    void shouldStayConsistentAcrossRemovalsAndGrowth() {
+        List<Country> rows = new ArrayList<>(List.of(france, germany, spain));
+        matrix.synchronize(rows);
+        rows.remove(germany);
+        matrix.synchronize(rows);
+        assertThat(matrix.cell(1L, 2L)).isEqualTo(-1);
+
+        for (long id = 10; id < 40; id++) {
+            rows.add(country(id, "C" + id, "C" + id, (id * 7) % 160 - 80.0, (id * 37) % 360 - 180.0));
+        }
+        matrix.synchronize(rows);
+
+        assertThat(matrix.size()).isEqualTo(32);
+        for (Country from : rows) {
+            for (Country to : rows) {
+                assertThat(matrix.cell(from.getId(), to.getId())).isEqualTo(DistanceMatrix.encode(
+                    from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should never pair a reader's ordinals with cells written for a reused ordinal")
+    @Tag("unit")
+    void shouldKeepReadersConsistentWhileOrdinalsAreReused() throws InterruptedException {
+        int franceToGermany = DistanceMatrix.encode(46.2276, 2.2137, 51.1657, 10.4515);
+        matrix.synchronize(List.of(france, germany));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistent = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                int cell = matrix.cell(1L, 2L);
+                if (cell != -1 && cell != franceToGermany) {
+                    inconsistent.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 2_000; i++) {
+            matrix.synchronize(List.of(france, spain));
+            matrix.synchronize(List.of(france, germany));
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(inconsistent).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should leave rows past the size limit unindexed")
+    @Tag("unit")
+    void shouldLeaveRowsPastLimitUnindexed() {
+        DistanceMatrix<Country> small = new DistanceMatrix<>(Country::getId, Country::getLatitude, Country::getLongitude, 2);
+
+        small.synchronize(List.of(france, germany, spain));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.cell(1L, 3L)).isEqualTo(-1);
+    }
+
+    private Country country(Long id, String name, String isoCode, double latitude, double longitude) {
+        Country country = createTestCountry(name, isoCode);
+        country.setId(id);
+        country.setLatitude(latitude);
+        country.setLongitude(longitude);
+        return country;
+    }
+}
\ No newline at end of file
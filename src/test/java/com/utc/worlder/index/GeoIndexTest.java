@@ -0,0 +1,111 @@
+package com.utc.worlder.index;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.entity.Country;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Geo Index Tests")
+class GeoIndexTest extends AbstractTestBase {
+
+    private Country france;
+
+    private Country germany;
+
+    private Country spain;
+
+    private Country japan;
+
+    private List<Country> countries;
+
+    @BeforeEach
+    void setUp() {
+        france = country("France", "FRA", 46.2276, 2.2137);
+        germany = country("Germany", "DEU", 51.1657, 10.4515);
+        spain = country("Spain", "ESP", 40.4637, -3.7492);
+        japan = country("Japan", "JPN", 36.2048, 138.2529);
+        countries = List.of(france, germany, spain, japan, country("Unknown", "UNK", null, null));
+    }
+
+    @Test
+    @DisplayName("Should skip rows without coordinates")
+    @Tag("unit")
+    void shouldSkipRowsWithoutCoordinates() {
+        GeoIndex<Country> index = GeoIndex.build(countries, Country::getLatitude, Country::getLongitude);
+
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should return the nearest rows first and leave out the excluded row")
+    @Tag("unit")
+    void shouldReturnNearestRowsFirst() {
+        GeoIndex<Country> index = GeoIndex.build(countries, Country::getLatitude, Country::getLongitude);
+
+        List<GeoIndex.Hit<Country>> hits = index.nearest(france.getLatitude(), france.getLongitude(), 2, france);
+
+        assertThat(hits).extracting(hit -> hit.item().getIsoCode()).containsExactly("ESP", "DEU");
+        assertThat(hits.get(0).distanceKm()).isCloseTo(
+            GeoIndex.distanceKm(46.2276, 2.2137, 40.4637, -3.7492), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("Should return every row inside the radius sorted by distance")
+    @Tag("unit")
+    void shouldReturnRowsInsideRadius() {
+        GeoIndex<Country> index = GeoIndex.build(countries, Country::getLatitude, Country::getLongitude);
+
+        assertThat(index.within(48.8566, 2.3522, 1_100))
+            .extracting(hit -> hit.item().getIsoCode())
+            .containsExactly("FRA", "DEU", "ESP");
+        assertThat(index.within(48.8566, 2.3522, 250)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match great-circle distances")
+    @Tag("unit")
+    void shouldMatchGreatCircleDistances() {
+        assertThat(GeoIndex.distanceKm(48.8566, 2.3522, 52.5200, 13.4050)).isCloseTo(877.5, within(1.0));
+        assertThat(GeoIndex.distanceKm(0, 0, 0, 180)).isCloseTo(Math.PI * GeoIndex.EARTH_RADIUS_KM, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("Should agree with a brute-force scan")
+    @Tag("unit")
+    void shouldAgreeWithBruteForceScan() {
+        Random random = new Random(42);
+        List<Country> points = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            points.add(country("P" + i, "P" + i, latitude, random.nextDouble() * 360 - 180));
+        }
+        GeoIndex<Country> index = GeoIndex.build(points, Country::getLatitude, Country::getLongitude);
+
+        for (int query = 0; query < 100; query++) {
+            double latitude = random.nextDouble() * 180 - 90;
+            double longitude = random.nextDouble() * 360 - 180;
+            List<Country> expected = points.stream()
+                .sorted(Comparator.comparingDouble(point ->
+                    GeoIndex.distanceKm(latitude, longitude, point.getLatitude(), point.getLongitude())))
+                .limit(7)
+                .toList();
+
+            assertThat(index.nearest(latitude, longitude, 7, null))
+                .extracting(GeoIndex.Hit::item)
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private Country country(String name, String isoCode, Double latitude, Double longitude) {
+        Country country = createTestCountry(name, isoCode);
+        country.setLatitude(latitude);
+        country.setLongitude(longitude);
+        return country;
+    }
+}
\ No newline at end of file
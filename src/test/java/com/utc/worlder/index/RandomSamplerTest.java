@@ -0,0 +1,90 @@
+package com.utc.worlder.index;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.entity.Country;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Random Sampler Tests")
+class RandomSamplerTest extends AbstractTestBase {
+
+    private RandomSampler<Country> sampler;
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        sampler = RandomSampler.build(List.of(
+            country("China", "CHN", 1_412_000_000L),
+            country("France", "FRA", 67_390_000L),
+            country("Kenya", "KEN", 54_027_000L),
+            country("Iceland", "ISL", 372_000L),
+            country("Tuvalu", "TUV", 11_000L),
+            country("Unknown", "UNK", null)
+        ), Country::getPopulation);
+        random = new Random(7);
+    }
+
+    @Test
+    @DisplayName("Should include rows without a weight unless a minimum is given")
+    @Tag("unit")
+    void shouldIncludeUnweightedRowsWithoutMinimum() {
+        assertThat(sampler.sample(null, 10, false, random))
+            .extracting(Country::getIsoCode)
+            .containsExactlyInAnyOrder("CHN", "FRA", "KEN", "ISL", "TUV", "UNK");
+        assertThat(sampler.sample(0L, 10, false, random))
+            .extracting(Country::getIsoCode)
+            .doesNotContain("UNK");
+    }
+
+    @Test
+    @DisplayName("Should only draw rows at or above the minimum weight")
+    @Tag("unit")
+    void shouldOnlyDrawRowsAboveMinimum() {
+        for (int draw = 0; draw < 200; draw++) {
+            assertThat(sampler.sample(54_027_000L, 2, draw % 2 == 0, random))
+                .hasSize(2)
+                .extracting(Country::getIsoCode)
+                .isSubsetOf("CHN", "FRA", "KEN");
+        }
+        assertThat(sampler.sample(2_000_000_000L, 1, false, random)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5})
+    @DisplayName("Should never repeat a row within one sample")
+    @Tag("parameterized")
+    void shouldNeverRepeatRowWithinSample(int n) {
+        for (int draw = 0; draw < 200; draw++) {
+            assertThat(sampler.sample(null, n, true, random)).hasSize(n).doesNotHaveDuplicates();
+            assertThat(sampler.sample(null, n, false, random)).hasSize(n).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("Should draw rows in proportion to their weight")
+    @Tag("unit")
+    void shouldDrawRowsInProportionToWeight() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int draw = 0; draw < 10_000; draw++) {
+            counts.merge(sampler.sample(null, 1, true, random).get(0).getIsoCode(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get("CHN")).isBetween(9_000, 9_400);
+        assertThat(counts).doesNotContainKey("UNK");
+    }
+
+    private Country country(String name, String isoCode, Long population) {
+        Country country = createTestCountry(name, isoCode);
+        country.setPopulation(population);
+        return country;
+    }
+}
\ No newline at end of file
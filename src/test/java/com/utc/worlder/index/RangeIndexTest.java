@@ -0,0 +1,123 @@
+package com.utc.worlder.index;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.entity.Country;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Range Index Tests")
+class RangeIndexTest extends AbstractTestBase {
+
+    private List<Country> countries;
+
+    @BeforeEach
+    void setUp() {
+        countries = List.of(
+            country("France", "FRA", 67_390_000L, 643_801.0),
+            country("Germany", "DEU", 83_190_556L, 357_592.0),
+            country("Kenya", "KEN", 54_027_000L, 580_367.0),
+            country("Unknown", "UNK", null, null),
+            country("Japan", "JPN", 125_800_000L, 377_975.0)
+        );
+    }
+
+    @Nested
+    @DisplayName("Long keys")
+    class LongKeys {
+
+        @Test
+        @DisplayName("Should sort rows by key and skip missing keys")
+        @Tag("unit")
+        void shouldSortRowsByKeyAndSkipMissingKeys() {
+            LongRangeIndex<Country> index = LongRangeIndex.build(countries, Country::getPopulation);
+
+            assertThat(index.size()).isEqualTo(4);
+            assertThat(index.between(Long.MIN_VALUE, Long.MAX_VALUE))
+                .extracting(Country::getIsoCode)
+                .containsExactly("KEN", "FRA", "DEU", "JPN");
+        }
+
+        @Test
+        @DisplayName("Should exclude the bound for greater-than and less-than lookups")
+        @Tag("unit")
+        void shouldExcludeBoundForStrictLookups() {
+            LongRangeIndex<Country> index = LongRangeIndex.build(countries, Country::getPopulation);
+
+            assertThat(index.greaterThan(67_390_000L))
+                .extracting(Country::getIsoCode)
+                .containsExactly("DEU", "JPN");
+            assertThat(index.lessThan(67_390_000L))
+                .extracting(Country::getIsoCode)
+                .containsExactly("KEN");
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+            "54027000, 83190556, 3",
+            "60000000, 70000000, 1",
+            "200000000, 300000000, 0",
+            "83190556, 54027000, 0"
+        })
+        @DisplayName("Should include both bounds for between lookups")
+        @Tag("parameterized")
+        void shouldIncludeBothBoundsForBetween(long min, long max, int expectedCount) {
+            LongRangeIndex<Country> index = LongRangeIndex.build(countries, Country::getPopulation);
+
+            assertThat(index.between(min, max)).hasSize(expectedCount);
+        }
+
+        @Test
+        @DisplayName("Should return read-only views")
+        @Tag("unit")
+        void shouldReturnReadOnlyViews() {
+            LongRangeIndex<Country> index = LongRangeIndex.build(countries, Country::getPopulation);
+
+            assertThatThrownBy(() -> index.greaterThan(0L).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Double keys")
+    class DoubleKeys {
+
+        @Test
+        @DisplayName("Should answer area ranges in ascending order")
+        @Tag("unit")
+        void shouldAnswerAreaRangesInAscendingOrder() {
+            DoubleRangeIndex<Country> index = DoubleRangeIndex.build(countries, Country::getArea);
+
+            assertThat(index.greaterThan(400_000.0))
+                .extracting(Country::getIsoCode)
+                .containsExactly("KEN", "FRA");
+            assertThat(index.lessThan(377_975.0))
+                .extracting(Country::getIsoCode)
+                .containsExactly("DEU");
+            assertThat(index.between(357_592.0, 580_367.0))
+                .extracting(Country::getIsoCode)
+                .containsExactly("DEU", "JPN", "KEN");
+        }
+
+        @Test
+        @DisplayName("Should return nothing on an empty index")
+        @Tag("unit")
+        void shouldReturnNothingOnEmptyIndex() {
+            DoubleRangeIndex<Country> index = DoubleRangeIndex.build(List.of(), Country::getArea);
+
+            assertThat(index.greaterThan(0.0)).isEmpty();
+            assertThat(index.between(0.0, 1.0)).isEmpty();
+        }
+    }
+
+    private Country country(String name, String isoCode, Long population, Double area) {
+        Country country = createTestCountry(name, isoCode);
+        country.setPopulation(population);
+        country.setArea(area);
+        return country;
+    }
+}
@@ -0,0 +1,57 @@
+package com.utc.worlder.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utc.worlder.cache.JsonResponseCache;
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.service.CountryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Country Metrics Tests")
+class CountryMetricsTest extends AbstractTestBase {
+
+    @Mock
+    private CountryService countryService;
+
+    private JsonResponseCache responseCache;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new JsonResponseCache(new ObjectMapper());
+        registry = new SimpleMeterRegistry();
+        new CountryMetrics(countryService, responseCache).bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Should count response cache hits and misses")
+    @Tag("unit")
+    void shouldCountResponseCacheHitsAndMisses() {
+        responseCache.get("continents", 1L, () -> List.of("Europe"));
+        responseCache.get("continents", 1L, () -> List.of("Europe"));
+        responseCache.get("continents", 1L, () -> List.of("Europe"));
+
+        assertThat(registry.get("worlder.response.cache.requests").tag("result", "hit").functionCounter().count())
+            .isEqualTo(2.0);
+        assertThat(registry.get("worlder.response.cache.requests").tag("result", "miss").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should expose snapshot size and dataset version")
+    @Tag("unit")
+    void shouldExposeSnapshotSizeAndDatasetVersion() {
+        given(countryService.getTotalCountriesCount()).willReturn(20L);
+        given(countryService.getDatasetVersion()).willReturn(5L);
+
+        assertThat(registry.get("worlder.countries.snapshot.size").gauge().value()).isEqualTo(20.0);
+        assertThat(registry.get("worlder.countries.dataset.version").gauge().value()).isEqualTo(5.0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.utc.worlder.repository;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.entity.Country;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@DisplayName("Country Second-Level Cache Tests")
+class CountryCacheTest extends AbstractTestBase {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Country france;
+
+    @BeforeEach
+    void setUp() {
+        countryRepository.deleteAll();
+        countryRepository.evictCaches();
+        france = countryRepository.save(createTestCountry("France", "FRA"));
+        countryRepository.save(createTestCountry("Germany", "DEU"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        countryRepository.deleteAll();
+        countryRepository.evictCaches();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated ISO code lookups from the query cache")
+    @Tag("integration")
+    void shouldServeRepeatedIsoCodeLookupsFromQueryCache() {
+        countryRepository.findByIsoCode("FRA");
+        countryRepository.findByIsoCode("FRA");
+
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve lookups by ID from the entity cache")
+    @Tag("integration")
+    void shouldServeLookupsByIdFromEntityCache() {
+        countryRepository.findById(france.getId());
+        countryRepository.findById(france.getId());
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should see repository writes in cached lookups")
+    @Tag("integration")
+    void shouldSeeRepositoryWritesInCachedLookups() {
+        Country cached = countryRepository.findByIsoCode("FRA").orElseThrow();
+        cached.setCapital("Lyon");
+        countryRepository.save(cached);
+
+        assertThat(countryRepository.findByIsoCode("FRA"))
+            .get()
+            .extracting(Country::getCapital)
+            .isEqualTo("Lyon");
+    }
+
+    @Test
+    @DisplayName("Should miss the query cache after an explicit eviction")
+    @Tag("integration")
+    void shouldMissQueryCacheAfterEviction() {
+        countryRepository.findByContinent("Europe");
+        countryRepository.evictCaches();
+        statistics.clear();
+
+        countryRepository.findByContinent("Europe");
+
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+    }
+}
\ No newline at end of file
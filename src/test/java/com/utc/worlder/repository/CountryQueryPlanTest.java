@@ -0,0 +1,107 @@
+package com.utc.worlder.repository;
+
+import com.utc.worlder.config.AbstractSqliteTestBase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Country Query Plan Tests")
+class CountryQueryPlanTest extends AbstractSqliteTestBase {
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(databaseUrl(), null, null)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+
+    @Test
+    @DisplayName("Should seed the reference countries through the migrations")
+    @Tag("integration")
+    void shouldSeedReferenceCountries() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(databaseUrl());
+             ResultSet rows = connection.createStatement().executeQuery("SELECT COUNT(*) FROM countries")) {
+            rows.next();
+            assertThat(rows.getInt(1)).isEqualTo(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not bring deleted countries back when baselining an existing database")
+    @Tag("integration")
+    void shouldKeepRowsOfBaselinedDatabase(@TempDir Path legacyDir) throws SQLException {
+        String legacyUrl = "jdbc:sqlite:" + legacyDir.resolve("countries.db");
+        try (Connection connection = DriverManager.getConnection(legacyUrl);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE countries (id INTEGER PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE, "
+                + "iso_code VARCHAR(3) NOT NULL UNIQUE, capital VARCHAR(255), continent VARCHAR(255), population BIGINT, "
+                + "area DOUBLE, currency VARCHAR(255), official_language VARCHAR(255))");
+            statement.execute("INSERT INTO countries (name, iso_code, continent) VALUES ('Germany', 'DEU', 'Europe'), "
+                + "('Tuvalu', 'TUV', 'Oceania')");
+        }
+
+        Flyway.configure()
+            .dataSource(legacyUrl, null, null)
+            .locations("classpath:db/migration")
+            .baselineOnMigrate(true)
+            .baselineVersion("0")
+            .load()
+            .migrate();
+
+        List<String> isoCodes = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(legacyUrl);
+             ResultSet rows = connection.createStatement().executeQuery(
+                 "SELECT iso_code FROM countries ORDER BY id")) {
+            while (rows.next()) {
+                isoCodes.add(rows.getString("iso_code"));
+            }
+        }
+        assertThat(isoCodes).containsExactly("DEU", "TUV");
+    }
+
+    @ParameterizedTest(name = "Should use {1} for: {0}")
+    @CsvSource(delimiter = '|', value = {
+        "SELECT * FROM countries WHERE continent = 'Europe'                              | idx_countries_continent",
+        "SELECT * FROM countries WHERE population > 50000000                             | idx_countries_population",
+        "SELECT * FROM countries WHERE area > 1000000.0                                  | idx_countries_area",
+        "SELECT * FROM countries WHERE continent = 'Asia' AND population > 100000000     | idx_countries_continent_population"
+    })
+    @DisplayName("Should search by index instead of scanning the table")
+    @Tag("parameterized")
+    void shouldSearchByIndex(String query, String expectedIndex) throws SQLException {
+        List<String> plan = explain(query);
+
+        assertThat(plan)
+            .anySatisfy(step -> assertThat(step).startsWith("SEARCH").contains("USING INDEX " + expectedIndex))
+            .noneSatisfy(step -> assertThat(step).startsWith("SCAN countries"));
+    }
+
+    private List<String> explain(String query) throws SQLException {
+        List<String> steps = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(databaseUrl());
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + query);
+             ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                steps.add(rows.getString("detail"));
+            }
+        }
+        logger.info("Plan for {}: {}", query, steps);
+        return steps;
+    }
+}
\ No newline at end of file
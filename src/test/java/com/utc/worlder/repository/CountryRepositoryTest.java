@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
@@ -169,6 +170,65 @@ class CountryRepositoryTest extends AbstractTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Keyset Pagination")
+    class KeysetPagination {
+
+        @Test
+        @DisplayName("Should page by id without skipping or repeating rows")
+        @Tag("integration")
+        void shouldPageByIdWithoutSkippingOrRepeatingRows() {
+            List<Country> firstPage = countryRepository.findPageOrderById(PageRequest.of(0, 2));
+            List<Country> secondPage = countryRepository.findPageOrderByIdAfter(
+                firstPage.get(firstPage.size() - 1).getId(), PageRequest.of(0, 2));
+
+            assertThat(firstPage).extracting(Country::getIsoCode).containsExactly("FRA", "ESP");
+            assertThat(secondPage).extracting(Country::getIsoCode).containsExactly("DEU");
+        }
+
+        @Test
+        @DisplayName("Should continue a name-ordered page after the cursor row")
+        @Tag("integration")
+        void shouldContinueNameOrderedPageAfterCursorRow() {
+            List<Country> firstPage = countryRepository.findPageOrderByName(PageRequest.of(0, 1));
+            Country last = firstPage.get(0);
+
+            List<Country> rest = countryRepository.findPageOrderByNameAfter(
+                last.getName(), last.getId(), PageRequest.of(0, 10));
+
+            assertThat(last.getName()).isEqualTo("France");
+            assertThat(rest).extracting(Country::getName).containsExactly("Germany", "Spain");
+        }
+
+        @Test
+        @DisplayName("Should order by population and continue after the cursor")
+        @Tag("integration")
+        void shouldOrderByPopulationAndContinueAfterCursor() {
+            List<Country> firstPage = countryRepository.findPageOrderByPopulation(PageRequest.of(0, 2));
+            Country last = firstPage.get(1);
+
+            List<Country> rest = countryRepository.findPageOrderByPopulationAfter(
+                last.getPopulation(), last.getId(), PageRequest.of(0, 2));
+
+            assertThat(firstPage).extracting(Country::getIsoCode).containsExactly("FRA", "ESP");
+            assertThat(rest).extracting(Country::getIsoCode).containsExactly("DEU");
+        }
+
+        @Test
+        @DisplayName("Should order by area and continue after the cursor")
+        @Tag("integration")
+        void shouldOrderByAreaAndContinueAfterCursor() {
+            List<Country> firstPage = countryRepository.findPageOrderByArea(PageRequest.of(0, 1));
+            Country last = firstPage.get(0);
+
+            List<Country> rest = countryRepository.findPageOrderByAreaAfter(
+                last.getArea(), last.getId(), PageRequest.of(0, 5));
+
+            assertThat(last.getIsoCode()).isEqualTo("FRA");
+            assertThat(rest).extracting(Country::getIsoCode).containsExactly("DEU", "ESP");
+        }
+    }
+
     @Nested
     @DisplayName("Persistence Constraints")
     class PersistenceConstraints {
@@ -273,4 +333,44 @@ class CountryRepositoryTest extends AbstractTestBase {
             assertThat(countryRepository.count()).isEqualTo(initialCount - 1);
         }
     }
+
+    @Nested
+    @DisplayName("Single Statement Writes")
+    class SingleStatementWrites {
+
+        @Test
+        @DisplayName("Should update a country in place and report one affected row")
+        @Tag("integration")
+        void shouldUpdateCountryById() {
+            Country changes = createTestCountry("French Republic", "FRA");
+            changes.setPopulation(68_000_000L);
+
+            int updated = countryRepository.updateCountryById(savedFrance.getId(), changes);
+
+            assertThat(updated).isEqualTo(1);
+            assertThat(countryRepository.findById(savedFrance.getId()))
+                .hasValueSatisfying(country -> {
+                    assertThat(country.getName()).isEqualTo("French Republic");
+                    assertThat(country.getPopulation()).isEqualTo(68_000_000L);
+                });
+        }
+
+        @Test
+        @DisplayName("Should report zero affected rows for unknown IDs")
+        @Tag("integration")
+        void shouldReportZeroRows_WhenIdUnknown() {
+            assertThat(countryRepository.updateCountryById(999L, createTestCountry("Nowhere", "NOW"))).isZero();
+            assertThat(countryRepository.deleteCountryById(999L)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should delete a country and report one affected row")
+        @Tag("integration")
+        void shouldDeleteCountryById() {
+            int deleted = countryRepository.deleteCountryById(savedFrance.getId());
+
+            assertThat(deleted).isEqualTo(1);
+            assertThat(countryRepository.existsById(savedFrance.getId())).isFalse();
+        }
+    }
 }
\ No newline at end of file
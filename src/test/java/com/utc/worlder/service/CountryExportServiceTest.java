@@ -0,0 +1,156 @@
+package com.utc.worlder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.ExportFormat;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "worlder.export.flush-interval=2")
+@DisplayName("Country Export Service Tests")
+class CountryExportServiceTest extends AbstractTestBase {
+
+    @Autowired
+    private CountryExportService countryExportService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Country> saved;
+
+    @BeforeEach
+    void setUp() {
+        countryRepository.deleteAll();
+
+        Country quoted = createTestCountry("Côte \"Ivory\", Coast", "CIV");
+        quoted.setCapital("Line\nBreak");
+        quoted.setLatitude(7.54);
+        quoted.setLongitude(-5.55);
+
+        Country carriageReturn = createTestCountry("Carriage\rReturn", "CRR");
+        carriageReturn.setCurrency("Comma, \"quote\"\r\n");
+
+        Country sparse = new Country("Sparse 🌍", "SPR", null, null, null, null, null, null);
+
+        saved = countryRepository.saveAll(List.of(quoted, carriageReturn, sparse, createTestCountry("Plain", "PLN")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should write CSV that parses back to the stored values")
+    @Tag("integration")
+    void shouldRoundTripCsv() throws IOException {
+        List<List<String>> rows = parseCsv(export(ExportFormat.CSV));
+
+        assertThat(rows.get(0)).containsExactly("id", "name", "iso_code", "capital", "continent", "population", "area",
+            "currency", "official_language", "latitude", "longitude");
+        assertThat(rows).hasSize(saved.size() + 1);
+        for (int i = 0; i < saved.size(); i++) {
+            Country country = saved.get(i);
+            assertThat(rows.get(i + 1)).containsExactly(
+                text(country.getId()),
+                text(country.getName()),
+                text(country.getIsoCode()),
+                text(country.getCapital()),
+                text(country.getContinent()),
+                text(country.getPopulation()),
+                text(country.getArea()),
+                text(country.getCurrency()),
+                text(country.getOfficialLanguage()),
+                text(country.getLatitude()),
+                text(country.getLongitude()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line that parses back to the stored values")
+    @Tag("integration")
+    void shouldRoundTripNdjson() throws IOException {
+        String[] lines = export(ExportFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            Country expected = saved.get(i);
+            Country actual = objectMapper.readValue(lines[i], Country.class);
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a flush interval below one")
+    @Tag("unit")
+    void shouldRejectFlushIntervalBelowOne() {
+        assertThatThrownBy(() -> new CountryExportService(countryRepository, null, objectMapper, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("worlder.export.flush-interval");
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        countryExportService.export(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    // RFC 4180, reading a bare CR as a line break the way spreadsheet importers do.
+    private static List<List<String>> parseCsv(String csv) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                row.add(field.toString());
+                field.setLength(0);
+                rows.add(row);
+                row = new ArrayList<>();
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        assertThat(quoted).as("unterminated quoted field").isFalse();
+        assertThat(field).as("trailing text without a line break").isEmpty();
+        return rows;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.config.AbstractSqliteTestBase;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = "worlder.ingest.chunk-size=3")
+@DisplayName("Country Ingest Service Tests")
+class CountryIngestServiceTest extends AbstractSqliteTestBase {
+
+    @Autowired
+    private CountryIngestService countryIngestService;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should report every row across several chunks and refresh the snapshot")
+    @Tag("integration")
+    void shouldReportEveryRowAcrossChunks() throws IOException {
+        long version = countryService.getDatasetVersion();
+        int before = countRows();
+        // Chunks of three: a duplicate inside the first chunk, an existing row and an invalid row in the
+        // second, a duplicate of an earlier chunk in the third.
+        String body = String.join("\n",
+            "{\"name\": \"Ingestia One\", \"isoCode\": \"IN1\"}",
+            "{\"name\": \"Ingestia Two\", \"isoCode\": \"IN2\"}",
+            "{\"name\": \"Ingestia One\", \"isoCode\": \"IN1\"}",
+            "{\"name\": \"France\", \"isoCode\": \"FRA\"}",
+            "{\"name\": \"Ingestia Three\", \"isoCode\": \"IN3\"}",
+            "{\"isoCode\": \"BAD\"}",
+            "{\"name\": \"Ingestia Two\", \"isoCode\": \"IN2\"}",
+            "{\"name\": \"Ingestia Four\", \"isoCode\": \"IN4\"}");
+
+        BatchResponse response = countryIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.results()).extracting(BatchResult::index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(
+            BatchResult.Status.CREATED,
+            BatchResult.Status.CREATED,
+            BatchResult.Status.DUPLICATE,
+            BatchResult.Status.DUPLICATE,
+            BatchResult.Status.CREATED,
+            BatchResult.Status.INVALID,
+            BatchResult.Status.DUPLICATE,
+            BatchResult.Status.CREATED);
+        assertThat(response.created()).isEqualTo(4);
+        assertThat(response.duplicates()).isEqualTo(3);
+        assertThat(response.invalid()).isEqualTo(1);
+        assertThat(countRows()).isEqualTo(before + 4);
+
+        assertThat(countryService.getDatasetVersion()).isGreaterThan(version);
+        assertThat(countryService.getCountryByIsoCode("IN1")).isPresent();
+        assertThat(countryService.getCountryByIsoCode("IN4")).isPresent();
+        assertThat(countryService.getCountryByIsoCode("FRA")).hasValueSatisfying(france ->
+            assertThat(france.getCapital()).isEqualTo("Paris"));
+    }
+
+    @Test
+    @DisplayName("Should leave the snapshot alone when nothing was created")
+    @Tag("integration")
+    void shouldNotRefreshWhenNothingCreated() throws IOException {
+        long version = countryService.getDatasetVersion();
+        String body = "[{\"name\": \"Germany\", \"isoCode\": \"DEU\"}, {\"name\": \"\", \"isoCode\": \"XXX\"}]";
+
+        BatchResponse response = countryIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.results()).extracting(BatchResult::status)
+            .containsExactly(BatchResult.Status.DUPLICATE, BatchResult.Status.INVALID);
+        assertThat(countryService.getDatasetVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Should fail on a constraint violation other than uniqueness instead of reporting a duplicate")
+    @Tag("integration")
+    void shouldNotReportOtherConstraintViolationsAsDuplicates() {
+        jdbcTemplate.execute("ALTER TABLE countries ADD COLUMN population_check INTEGER "
+            + "CHECK (population IS NULL OR population >= 0)");
+        int before = countRows();
+        String body = "{\"name\": \"Negatia\", \"isoCode\": \"NEG\", \"population\": -1}";
+
+        assertThatThrownBy(() -> countryIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOf(DataAccessException.class);
+        assertThat(countRows()).isEqualTo(before);
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM countries", Integer.class);
+    }
+}
\ No newline at end of file
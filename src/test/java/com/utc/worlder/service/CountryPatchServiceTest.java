@@ -0,0 +1,174 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.dto.CountryPatch;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Country Patch Service Tests")
+class CountryPatchServiceTest extends AbstractTestBase {
+
+    @Autowired
+    private CountryPatchService countryPatchService;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    private Country france;
+
+    @BeforeEach
+    void setUp() {
+        countryRepository.deleteAll();
+        france = countryRepository.save(locatedCountry("France", "FRA"));
+        countryRepository.save(locatedCountry("Germany", "DEU"));
+        countryRepository.save(locatedCountry("Spain", "ESP"));
+        countryRepository.save(locatedCountry("Italy", "ITA"));
+        countryService.refreshSnapshot();
+        clearInvocations(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        countryRepository.deleteAll();
+        countryService.refreshSnapshot();
+    }
+
+    @Test
+    @DisplayName("Should write only the supplied columns of a single patch")
+    @Tag("integration")
+    void shouldWriteOnlySuppliedColumns() {
+        CountryPatch patch = new CountryPatch(null, null, "Lyon", null, 68_000_000L, null, null, null, null, null);
+
+        assertThat(countryPatchService.patch(france.getId(), patch)).hasValueSatisfying(patched -> {
+            assertThat(patched.getCapital()).isEqualTo("Lyon");
+            assertThat(patched.getPopulation()).isEqualTo(68_000_000L);
+        });
+
+        Country stored = countryRepository.findById(france.getId()).orElseThrow();
+        assertThat(stored.getCapital()).isEqualTo("Lyon");
+        assertThat(stored.getPopulation()).isEqualTo(68_000_000L);
+        assertUntouched(stored, "France", "FRA");
+        assertThat(stored.getArea()).isEqualTo(100000.0);
+    }
+
+    @Test
+    @DisplayName("Should report a missing ID as empty without touching other rows")
+    @Tag("integration")
+    void shouldReportMissingId() {
+        CountryPatch patch = new CountryPatch(null, null, "Nowhere", null, null, null, null, null, null, null);
+
+        assertThat(countryPatchService.patch(-1L, patch)).isEmpty();
+        assertThat(countryRepository.findAll()).extracting(Country::getCapital).doesNotContain("Nowhere");
+    }
+
+    @Test
+    @DisplayName("Should run consecutive patches of the same columns as one batched statement")
+    @Tag("integration")
+    void shouldGroupConsecutiveBulkPatchesByColumns() {
+        List<CountryPatch> patches = List.of(
+            new CountryPatch(null, "FRA", "Lyon", null, null, null, null, null, null, null),
+            new CountryPatch(null, "ESP", "Seville", null, null, null, null, null, null, null),
+            new CountryPatch(null, "XXX", "Nowhere", null, null, null, null, null, null, null),
+            new CountryPatch(null, null, "Orphan", null, null, null, null, null, null, null),
+            new CountryPatch(null, "DEU", null, null, 84_000_000L, null, null, null, null, null),
+            new CountryPatch(null, "ITA", "Milan", null, null, 301_000.0, null, null, null, null));
+
+        BatchResponse response = countryPatchService.patchByIsoCode(patches);
+
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(
+            BatchResult.Status.UPDATED,
+            BatchResult.Status.UPDATED,
+            BatchResult.Status.NOT_FOUND,
+            BatchResult.Status.INVALID,
+            BatchResult.Status.UPDATED,
+            BatchResult.Status.UPDATED);
+        assertThat(response.updated()).isEqualTo(4);
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(statements.capture(), anyList());
+        assertThat(statements.getAllValues()).containsExactly(
+            "UPDATE countries SET capital = ? WHERE iso_code = ?",
+            "UPDATE countries SET population = ? WHERE iso_code = ?",
+            "UPDATE countries SET capital = ?, area = ? WHERE iso_code = ?");
+
+        Country germany = countryRepository.findByIsoCode("DEU").orElseThrow();
+        assertThat(germany.getPopulation()).isEqualTo(84_000_000L);
+        assertThat(germany.getCapital()).isEqualTo("Capital of Germany");
+        assertUntouched(germany, "Germany", "DEU");
+
+        Country italy = countryRepository.findByIsoCode("ITA").orElseThrow();
+        assertThat(italy.getCapital()).isEqualTo("Milan");
+        assertThat(italy.getArea()).isEqualTo(301_000.0);
+        assertThat(italy.getPopulation()).isEqualTo(5000000L);
+        assertUntouched(italy, "Italy", "ITA");
+
+        assertThat(countryService.getCountryByIsoCode("ESP")).hasValueSatisfying(spain ->
+            assertThat(spain.getCapital()).isEqualTo("Seville"));
+    }
+
+    @Test
+    @DisplayName("Should apply repeated ISO codes in request order so the last patch wins")
+    @Tag("integration")
+    void shouldApplyRepeatedIsoCodesInRequestOrder() {
+        List<CountryPatch> patches = List.of(
+            new CountryPatch(null, "FRA", null, null, 1L, null, null, null, null, null),
+            new CountryPatch(null, "FRA", null, null, 2L, 550_000.0, null, null, null, null),
+            new CountryPatch(null, "FRA", null, null, 5L, null, null, null, null, null),
+            new CountryPatch(null, "FRA", "Lyon", null, null, null, null, null, null, null),
+            new CountryPatch(null, "FRA", "Nice", null, null, null, null, null, null, null));
+
+        BatchResponse response = countryPatchService.patchByIsoCode(patches);
+
+        assertThat(response.updated()).isEqualTo(5);
+        verify(jdbcTemplate, times(5)).batchUpdate(anyString(), anyList());
+
+        Country stored = countryRepository.findById(france.getId()).orElseThrow();
+        assertThat(stored.getPopulation()).isEqualTo(5L);
+        assertThat(stored.getArea()).isEqualTo(550_000.0);
+        assertThat(stored.getCapital()).isEqualTo("Nice");
+        assertUntouched(stored, "France", "FRA");
+    }
+
+    private Country locatedCountry(String name, String isoCode) {
+        Country country = createTestCountry(name, isoCode);
+        country.setLatitude(45.0);
+        country.setLongitude(5.0);
+        return country;
+    }
+
+    private void assertUntouched(Country stored, String name, String isoCode) {
+        assertThat(stored.getName()).isEqualTo(name);
+        assertThat(stored.getIsoCode()).isEqualTo(isoCode);
+        assertThat(stored.getContinent()).isEqualTo("Europe");
+        assertThat(stored.getCurrency()).isEqualTo("Euro");
+        assertThat(stored.getOfficialLanguage()).isEqualTo("English");
+        assertThat(stored.getLatitude()).isEqualTo(45.0);
+        assertThat(stored.getLongitude()).isEqualTo(5.0);
+    }
+}
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.utc.worlder.service;
 
 import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.BatchLookupResponse;
+import com.utc.worlder.dto.CountryPage;
+import com.utc.worlder.dto.CountrySort;
+import com.utc.worlder.dto.LookupResult;
+import com.utc.worlder.dto.NearbyCountry;
 import com.utc.worlder.entity.Country;
 import com.utc.worlder.repository.CountryRepository;
 import org.junit.jupiter.api.*;
@@ -13,10 +18,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -78,7 +86,8 @@ class CountryServiceTest extends AbstractTestBase {
         void shouldReturnCountry_WhenFoundByValidId() {
             Long countryId = 1L;
             Country expectedCountry = createTestCountry("France", "FRA");
-            given(countryRepository.findById(countryId)).willReturn(Optional.of(expectedCountry));
+            expectedCountry.setId(countryId);
+            given(countryRepository.findAll()).willReturn(List.of(expectedCountry));
 
             Optional<Country> actualCountry = countryService.getCountryById(countryId);
 
@@ -86,7 +95,8 @@ class CountryServiceTest extends AbstractTestBase {
                 .isPresent()
                 .contains(expectedCountry);
 
-            verify(countryRepository).findById(countryId);
+            verify(countryRepository).findAll();
+            verify(countryRepository, never()).findById(countryId);
         }
 
         @Test
@@ -95,12 +105,12 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("unit")
         void shouldReturnEmpty_WhenCountryNotFoundById() {
             Long nonExistentId = 999L;
-            given(countryRepository.findById(nonExistentId)).willReturn(Optional.empty());
+            given(countryRepository.findAll()).willReturn(List.of());
 
             Optional<Country> result = countryService.getCountryById(nonExistentId);
 
             assertThat(result).isEmpty();
-            verify(countryRepository).findById(nonExistentId);
+            verify(countryRepository, never()).findById(nonExistentId);
         }
     }
 
@@ -114,7 +124,7 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("parameterized")
         void shouldFindCountryByName(String countryName) {
             Country expectedCountry = createTestCountry(countryName, "TST");
-            given(countryRepository.findByName(countryName)).willReturn(Optional.of(expectedCountry));
+            given(countryRepository.findAll()).willReturn(List.of(expectedCountry));
 
             Optional<Country> result = countryService.getCountryByName(countryName);
 
@@ -136,7 +146,7 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("parameterized")
         void shouldFindCountryByIsoCode(String isoCode, String expectedName) {
             Country expectedCountry = createTestCountry(expectedName, isoCode);
-            given(countryRepository.findByIsoCode(isoCode)).willReturn(Optional.of(expectedCountry));
+            given(countryRepository.findAll()).willReturn(List.of(expectedCountry));
 
             Optional<Country> result = countryService.getCountryByIsoCode(isoCode);
 
@@ -155,10 +165,18 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("parameterized")
         void shouldFindCountriesByContinent(String continent, List<String> expectedCountryNames) {
             List<Country> expectedCountries = expectedCountryNames.stream()
-                .map(name -> createTestCountry(name, name.substring(0, 3).toUpperCase()))
+                .map(name -> {
+                    Country country = createTestCountry(name, name.substring(0, 3).toUpperCase());
+                    country.setContinent(continent);
+                    return country;
+                })
                 .toList();
+            Country elsewhere = createTestCountry("Elsewhere", "ELS");
+            elsewhere.setContinent("Antarctica");
+            List<Country> allCountries = new ArrayList<>(expectedCountries);
+            allCountries.add(elsewhere);
 
-            given(countryRepository.findByContinent(continent)).willReturn(expectedCountries);
+            given(countryRepository.findAll()).willReturn(allCountries);
 
             List<Country> result = countryService.getCountriesByContinent(continent);
 
@@ -175,6 +193,94 @@ class CountryServiceTest extends AbstractTestBase {
                 Arguments.of("North America", Arrays.asList("USA", "Canada", "Mexico"))
             );
         }
+
+        @Test
+        @DisplayName("Should resolve ISO codes in request order with explicit misses")
+        @Tag("unit")
+        void shouldResolveIsoCodesInRequestOrder() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            given(countryRepository.findAll()).willReturn(List.of(france, germany));
+
+            BatchLookupResponse response = countryService.getCountriesByIsoCodes(List.of("DEU", "XXX", "FRA"));
+
+            assertThat(response.found()).isEqualTo(2);
+            assertThat(response.missing()).isEqualTo(1);
+            assertThat(response.results())
+                .extracting(LookupResult::key, LookupResult::found, LookupResult::country)
+                .containsExactly(
+                    tuple("DEU", true, germany),
+                    tuple("XXX", false, null),
+                    tuple("FRA", true, france));
+            verify(countryRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should resolve IDs without a query per ID")
+        @Tag("unit")
+        void shouldResolveIdsWithoutQueryPerId() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            given(countryRepository.findAll()).willReturn(List.of(france));
+
+            BatchLookupResponse response = countryService.getCountriesByIds(List.of(1L, 99L, 1L));
+
+            assertThat(response.results())
+                .extracting(LookupResult::key)
+                .containsExactly("1", "99", "1");
+            assertThat(response.found()).isEqualTo(2);
+            verify(countryRepository, never()).findById(any());
+            verify(countryRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Should rank nearest countries from the snapshot")
+        @Tag("unit")
+        void shouldRankNearestCountriesFromSnapshot() {
+            Country france = located("France", "FRA", 1L, 46.2276, 2.2137);
+            Country germany = located("Germany", "DEU", 2L, 51.1657, 10.4515);
+            Country japan = located("Japan", "JPN", 3L, 36.2048, 138.2529);
+            Country unknown = createTestCountry("Unknown", "UNK");
+            unknown.setId(4L);
+            given(countryRepository.findAll()).willReturn(List.of(france, germany, japan, unknown));
+
+            assertThat(countryService.getNearestCountries(1L, 5))
+                .hasValueSatisfying(nearby -> assertThat(nearby)
+                    .extracting(NearbyCountry::country)
+                    .containsExactly(germany, japan));
+            assertThat(countryService.getNearestCountries(4L, 5)).isEmpty();
+            assertThat(countryService.getNearestCountries(99L, 5)).isEmpty();
+            assertThat(countryService.getCountriesNear(48.8566, 2.3522, 700))
+                .extracting(NearbyCountry::country)
+                .containsExactly(france, germany);
+        }
+
+        @Test
+        @DisplayName("Should sample random countries per continent from the snapshot")
+        @Tag("unit")
+        void shouldSampleRandomCountriesPerContinent() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            france.setPopulation(67_390_000L);
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            germany.setPopulation(83_190_556L);
+            Country japan = createTestCountry("Japan", "JPN");
+            japan.setId(3L);
+            japan.setContinent("Asia");
+            given(countryRepository.findAll()).willReturn(List.of(france, germany, japan));
+
+            assertThat(countryService.getRandomCountries("Europe", null, 5, false))
+                .containsExactlyInAnyOrder(france, germany);
+            assertThat(countryService.getRandomCountries("Europe", 80_000_000L, 1, true))
+                .containsExactly(germany);
+            assertThat(countryService.getRandomCountries("Antarctica", null, 1, false)).isEmpty();
+            assertThat(countryService.getRandomCountries(null, null, 3, false)).hasSize(3);
+            verify(countryRepository, times(1)).findAll();
+            verifyNoMoreInteractions(countryRepository);
+        }
     }
 
     @Nested
@@ -186,22 +292,22 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("unit")
         void shouldFindCountriesWithHighPopulation() {
             Long populationThreshold = 50_000_000L;
-            List<Country> expectedCountries = Arrays.asList(
-                createTestCountry("China", "CHN"),
-                createTestCountry("India", "IND")
-            );
+            Country china = createTestCountry("China", "CHN");
+            china.setPopulation(1_439_323_776L);
+            Country india = createTestCountry("India", "IND");
+            india.setPopulation(1_380_004_385L);
+            Country france = createTestCountry("France", "FRA");
 
-            given(countryRepository.findCountriesWithPopulationGreaterThan(populationThreshold))
-                .willReturn(expectedCountries);
+            given(countryRepository.findAll()).willReturn(Arrays.asList(china, france, india));
 
             List<Country> result = countryService.getCountriesWithPopulationGreaterThan(populationThreshold);
 
             assertThat(result)
                 .hasSize(2)
                 .extracting(Country::getName)
-                .containsExactly("China", "India");
+                .containsExactlyInAnyOrder("China", "India");
 
-            verify(countryRepository).findCountriesWithPopulationGreaterThan(populationThreshold);
+            verify(countryRepository, never()).findCountriesWithPopulationGreaterThan(populationThreshold);
         }
 
         @Test
@@ -209,13 +315,13 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("unit")
         void shouldFindCountriesWithLargeArea() {
             Double areaThreshold = 1_000_000.0;
-            List<Country> expectedCountries = Arrays.asList(
-                createTestCountry("Russia", "RUS"),
-                createTestCountry("Canada", "CAN")
-            );
+            Country russia = createTestCountry("Russia", "RUS");
+            russia.setArea(17_098_246.0);
+            Country canada = createTestCountry("Canada", "CAN");
+            canada.setArea(9_984_670.0);
+            Country france = createTestCountry("France", "FRA");
 
-            given(countryRepository.findCountriesWithAreaGreaterThan(areaThreshold))
-                .willReturn(expectedCountries);
+            given(countryRepository.findAll()).willReturn(Arrays.asList(russia, france, canada));
 
             List<Country> result = countryService.getCountriesWithAreaGreaterThan(areaThreshold);
 
@@ -232,7 +338,14 @@ class CountryServiceTest extends AbstractTestBase {
                 "Europe", "Asia", "North America", "South America", "Africa", "Oceania"
             );
 
-            given(countryRepository.findAllContinents()).willReturn(expectedContinents);
+            List<Country> countries = expectedContinents.stream()
+                .map(continent -> {
+                    Country country = createTestCountry("Country in " + continent, continent.substring(0, 3).toUpperCase());
+                    country.setContinent(continent);
+                    return country;
+                })
+                .toList();
+            given(countryRepository.findAll()).willReturn(countries);
 
             List<String> result = countryService.getAllContinents();
 
@@ -269,17 +382,56 @@ class CountryServiceTest extends AbstractTestBase {
             verify(countryRepository).save(newCountry);
         }
 
+        @Test
+        @DisplayName("Should update country with a single statement")
+        @Tag("unit")
+        void shouldUpdateCountryWithSingleStatement() {
+            Country changes = createTestCountry("Updated France", "FRA");
+            Country stored = createTestCountry("Updated France", "FRA");
+            stored.setId(1L);
+            given(countryRepository.updateCountryById(1L, changes)).willReturn(1);
+            given(countryRepository.findAll()).willReturn(List.of(stored));
+
+            Optional<Country> result = countryService.updateCountry(1L, changes);
+
+            assertThat(result).containsSame(stored);
+            assertThat(changes.getId()).isNull();
+            verify(countryRepository, never()).save(any());
+            verify(countryRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should return empty when no row was updated")
+        @Tag("unit")
+        void shouldReturnEmpty_WhenNoRowUpdated() {
+            Country changes = createTestCountry("Nowhere", "NOW");
+            long initialVersion = countryService.getDatasetVersion();
+            given(countryRepository.updateCountryById(999L, changes)).willReturn(0);
+
+            assertThat(countryService.updateCountry(999L, changes)).isEmpty();
+            assertThat(countryService.getDatasetVersion()).isEqualTo(initialVersion);
+        }
+
         @Test
         @DisplayName("Should delete country by ID")
         @Tag("unit")
         void shouldDeleteCountryById() {
             Long countryId = 1L;
-            willDoNothing().given(countryRepository).deleteById(countryId);
+            given(countryRepository.deleteCountryById(countryId)).willReturn(1);
+
+            assertThat(countryService.deleteCountry(countryId)).isTrue();
 
-            assertThatCode(() -> countryService.deleteCountry(countryId))
-                .doesNotThrowAnyException();
+            verify(countryRepository).deleteCountryById(countryId);
+            verify(countryRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Should report a missing country when no row was deleted")
+        @Tag("unit")
+        void shouldReturnFalse_WhenNoRowDeleted() {
+            given(countryRepository.deleteCountryById(999L)).willReturn(0);
 
-            verify(countryRepository).deleteById(countryId);
+            assertThat(countryService.deleteCountry(999L)).isFalse();
         }
 
         @Test
@@ -288,15 +440,15 @@ class CountryServiceTest extends AbstractTestBase {
         void shouldCheckIfCountryExists() {
             Long existingId = 1L;
             Long nonExistingId = 999L;
+            Country existing = createTestCountry("France", "FRA");
+            existing.setId(existingId);
 
-            given(countryRepository.existsById(existingId)).willReturn(true);
-            given(countryRepository.existsById(nonExistingId)).willReturn(false);
+            given(countryRepository.findAll()).willReturn(List.of(existing));
 
             assertThat(countryService.existsById(existingId)).isTrue();
             assertThat(countryService.existsById(nonExistingId)).isFalse();
 
-            verify(countryRepository).existsById(existingId);
-            verify(countryRepository).existsById(nonExistingId);
+            verify(countryRepository, never()).existsById(any());
         }
 
         @Test
@@ -304,12 +456,183 @@ class CountryServiceTest extends AbstractTestBase {
         @Tag("unit")
         void shouldReturnTotalCountOfCountries() {
             long expectedCount = 195L;
-            given(countryRepository.count()).willReturn(expectedCount);
+            List<Country> countries = LongStream.rangeClosed(1, expectedCount)
+                .mapToObj(id -> {
+                    Country country = createTestCountry("Country " + id, "C" + id);
+                    country.setId(id);
+                    return country;
+                })
+                .toList();
+            given(countryRepository.findAll()).willReturn(countries);
 
             long actualCount = countryService.getTotalCountriesCount();
 
             assertThat(actualCount).isEqualTo(expectedCount);
-            verify(countryRepository).count();
+            verify(countryRepository, never()).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset Pagination")
+    class KeysetPagination {
+
+        @Test
+        @DisplayName("Should return a next cursor when more rows exist")
+        @Tag("unit")
+        void shouldReturnNextCursor_WhenMoreRowsExist() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            Country spain = createTestCountry("Spain", "ESP");
+            spain.setId(3L);
+            given(countryRepository.findPageOrderByName(PageRequest.of(0, 3)))
+                .willReturn(List.of(france, germany, spain));
+
+            CountryPage page = countryService.getCountriesPage(CountrySort.NAME, null, 2);
+
+            assertThat(page.items()).containsExactly(france, germany);
+            assertThat(page.sort()).isEqualTo("name");
+            assertThat(page.nextCursor()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should resume from the decoded cursor")
+        @Tag("unit")
+        void shouldResumeFromDecodedCursor() {
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            germany.setPopulation(83_190_556L);
+            Country spain = createTestCountry("Spain", "ESP");
+            spain.setId(3L);
+            String cursor = CountryCursor.after(CountrySort.POPULATION, germany).encode();
+            given(countryRepository.findPageOrderByPopulationAfter(83_190_556L, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(spain));
+
+            CountryPage page = countryService.getCountriesPage(CountrySort.POPULATION, cursor, 2);
+
+            assertThat(page.items()).containsExactly(spain);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor issued for another sort key")
+        @Tag("unit")
+        void shouldRejectCursorIssuedForAnotherSortKey() {
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            String cursor = CountryCursor.after(CountrySort.NAME, germany).encode();
+
+            assertThatThrownBy(() -> countryService.getCountriesPage(CountrySort.ID, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(countryRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Cache")
+    class SnapshotCache {
+
+        @Test
+        @DisplayName("Should serve repeated reads from one snapshot load")
+        @Tag("unit")
+        void shouldServeRepeatedReadsFromOneSnapshotLoad() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            given(countryRepository.findAll()).willReturn(List.of(france));
+
+            countryService.getAllCountries();
+            countryService.getCountryByIsoCode("FRA");
+            countryService.getCountryByName("France");
+            countryService.getCountriesByContinent("Europe");
+            countryService.getAllContinents();
+
+            verify(countryRepository, times(1)).findAll();
+            verifyNoMoreInteractions(countryRepository);
+        }
+
+        @Test
+        @DisplayName("Should rebuild snapshot after saving a country")
+        @Tag("unit")
+        void shouldRebuildSnapshotAfterSave() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            Country germany = createTestCountry("Germany", "DEU");
+            germany.setId(2L);
+            given(countryRepository.findAll())
+                .willReturn(List.of(france))
+                .willReturn(List.of(france, germany));
+            given(countryRepository.save(germany)).willReturn(germany);
+
+            assertThat(countryService.getCountryByIsoCode("DEU")).isEmpty();
+
+            countryService.saveCountry(germany);
+
+            assertThat(countryService.getCountryByIsoCode("DEU")).contains(germany);
+            verify(countryRepository, times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should bump the dataset version on every write")
+        @Tag("unit")
+        void shouldBumpDatasetVersionOnEveryWrite() {
+            Country france = createTestCountry("France", "FRA");
+            given(countryRepository.save(france)).willReturn(france);
+            given(countryRepository.deleteCountryById(1L)).willReturn(1);
+            long initialVersion = countryService.getDatasetVersion();
+
+            countryService.saveCountry(france);
+            long afterSave = countryService.getDatasetVersion();
+            countryService.deleteCountry(1L);
+
+            assertThat(afterSave).isGreaterThan(initialVersion);
+            assertThat(countryService.getDatasetVersion()).isGreaterThan(afterSave);
+        }
+
+        @Test
+        @DisplayName("Should rebuild snapshot after deleting a country")
+        @Tag("unit")
+        void shouldRebuildSnapshotAfterDelete() {
+            Country france = createTestCountry("France", "FRA");
+            france.setId(1L);
+            given(countryRepository.findAll())
+                .willReturn(List.of(france))
+                .willReturn(List.of());
+            given(countryRepository.deleteCountryById(1L)).willReturn(1);
+
+            assertThat(countryService.existsById(1L)).isTrue();
+
+            countryService.deleteCountry(1L);
+
+            assertThat(countryService.existsById(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should serve distances for countries added after the first load")
+        @Tag("unit")
+        void shouldServeDistancesForCountriesAddedAfterFirstLoad() {
+            Country france = located("France", "FRA", 1L, 46.2276, 2.2137);
+            Country germany = located("Germany", "DEU", 2L, 51.1657, 10.4515);
+            Country unknown = createTestCountry("Unknown", "UNK");
+            unknown.setId(3L);
+            given(countryRepository.findAll())
+                .willReturn(List.of(france, unknown))
+                .willReturn(List.of(france, unknown, germany));
+            given(countryRepository.save(germany)).willReturn(germany);
+
+            assertThat(countryService.getDistance(1L, 2L)).isEmpty();
+
+            countryService.saveCountry(germany);
+
+            assertThat(countryService.getDistance(1L, 2L)).hasValueSatisfying(distance -> {
+                assertThat(distance.distanceKm()).isEqualTo(816);
+                assertThat(distance.direction()).isEqualTo("NE");
+                assertThat(distance.proximity()).isEqualTo(95);
+            });
+            assertThat(countryService.getDistance(2L, 1L))
+                .hasValueSatisfying(distance -> assertThat(distance.direction()).isEqualTo("SW"));
+            assertThat(countryService.getDistance(1L, 3L)).isEmpty();
+            assertThat(countryService.getDistanceMatrixBytes()).isPositive();
         }
     }
 
@@ -317,4 +640,12 @@ class CountryServiceTest extends AbstractTestBase {
     void tearDown() {
         reset(countryRepository);
     }
+
+    private Country located(String name, String isoCode, Long id, double latitude, double longitude) {
+        Country country = createTestCountry(name, isoCode);
+        country.setId(id);
+        country.setLatitude(latitude);
+        country.setLongitude(longitude);
+        return country;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.config.AbstractSqliteTestBase;
+import com.utc.worlder.dto.BatchResponse;
+import com.utc.worlder.dto.BatchResult;
+import com.utc.worlder.entity.Country;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("Country Upsert Service Tests")
+class CountryUpsertServiceTest extends AbstractSqliteTestBase {
+
+    @Autowired
+    private CountryUpsertService countryUpsertService;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should create new countries and update existing ones in place")
+    @Tag("integration")
+    void shouldCreateNewAndUpdateExisting() {
+        Long franceId = idOf("FRA");
+        Country france = createTestCountry("France", "FRA");
+        france.setCapital("Lyon");
+
+        BatchResponse response = countryUpsertService.upsertAll(List.of(france, createTestCountry("Upsertia", "UPA")));
+
+        assertThat(response.results()).extracting(BatchResult::status)
+            .containsExactly(BatchResult.Status.UPDATED, BatchResult.Status.CREATED);
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(idOf("FRA")).isEqualTo(franceId);
+        assertThat(countryService.getCountryByIsoCode("FRA")).hasValueSatisfying(stored ->
+            assertThat(stored.getCapital()).isEqualTo("Lyon"));
+        assertThat(countryService.getCountryByIsoCode("UPA")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should report a repeated ISO code as an update of the row it created")
+    @Tag("integration")
+    void shouldReportRepeatedIsoCodeAsUpdate() {
+        Country first = createTestCountry("Twiceland", "TWC");
+        Country second = createTestCountry("Twiceland", "TWC");
+        second.setCapital("Second City");
+
+        BatchResponse response = countryUpsertService.upsertAll(List.of(first, second));
+
+        assertThat(response.results()).extracting(BatchResult::status)
+            .containsExactly(BatchResult.Status.CREATED, BatchResult.Status.UPDATED);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM countries WHERE iso_code = 'TWC'", Integer.class))
+            .isEqualTo(1);
+        assertThat(countryService.getCountryByIsoCode("TWC")).hasValueSatisfying(stored ->
+            assertThat(stored.getCapital()).isEqualTo("Second City"));
+    }
+
+    @Test
+    @DisplayName("Should create then update a single country and return the stored row")
+    @Tag("integration")
+    void shouldCreateThenUpdateSingleCountry() {
+        Country country = createTestCountry("Onceland", "ONC");
+
+        Optional<Country> created = countryUpsertService.upsert("ONC", country);
+        country.setPopulation(42L);
+        Optional<Country> updated = countryUpsertService.upsert("ONC", country);
+
+        assertThat(created).hasValueSatisfying(stored -> assertThat(stored.getPopulation()).isEqualTo(5000000L));
+        assertThat(updated).hasValueSatisfying(stored -> {
+            assertThat(stored.getId()).isEqualTo(created.orElseThrow().getId());
+            assertThat(stored.getPopulation()).isEqualTo(42L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should report rows written behind the snapshot's back as updated")
+    @Tag("integration")
+    void shouldReportRowsMissingFromSnapshotAsUpdated() {
+        jdbcTemplate.update("INSERT INTO countries (name, iso_code) VALUES ('Hiddenland', 'HID')");
+
+        BatchResponse response = countryUpsertService.upsertAll(List.of(createTestCountry("Hiddenland", "HID")));
+
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(BatchResult.Status.UPDATED);
+    }
+
+    @Test
+    @DisplayName("Should report a country created after a higher id was deleted as created")
+    @Tag("integration")
+    void shouldReportCreatedAfterDeletingHighestId() {
+        countryUpsertService.upsertAll(List.of(createTestCountry("Lastland", "LST")));
+        jdbcTemplate.update("DELETE FROM countries WHERE iso_code = 'LST'");
+
+        BatchResponse response = countryUpsertService.upsertAll(List.of(createTestCountry("Nextland", "NXT")));
+
+        assertThat(response.results()).extracting(BatchResult::status).containsExactly(BatchResult.Status.CREATED);
+    }
+
+    private Long idOf(String isoCode) {
+        return jdbcTemplate.queryForObject("SELECT id FROM countries WHERE iso_code = ?", Long.class, isoCode);
+    }
+}
\ No newline at end of file
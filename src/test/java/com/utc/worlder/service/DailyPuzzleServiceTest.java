@@ -0,0 +1,189 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.DailyPuzzle;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.entity.DailyRotation;
+import com.utc.worlder.repository.CountryRepository;
+import com.utc.worlder.repository.DailyRotationRepository;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Daily Puzzle Service Tests")
+class DailyPuzzleServiceTest extends AbstractTestBase {
+
+    private static final LocalDate EPOCH = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    private CountryService countryService;
+
+    private List<Country> countries;
+
+    // Stored rotations per seed, by start day; each service built for a seed acts like a restart.
+    private final Map<Long, TreeMap<Long, DailyRotation>> rotations = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        countries = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            Country country = createTestCountry("Country " + id, "C" + id);
+            country.setId(id);
+            country.setLatitude(id * 5.0);
+            country.setLongitude(id * 10.0);
+            countries.add(country);
+        }
+        Country unlocated = createTestCountry("Unlocated", "UNL");
+        unlocated.setId(99L);
+        countries.add(unlocated);
+
+        countryService = new CountryService(countryRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve the same puzzle all day and expire it at the next midnight")
+    @Tag("unit")
+    void shouldServeSamePuzzleAllDay() {
+        given(countryRepository.findAll()).willReturn(countries);
+        DailyPuzzleService morning = service("2025-03-10T00:00:01Z", 42L);
+        DailyPuzzleService evening = service("2025-03-10T23:59:30Z", 42L);
+
+        DailyPuzzle puzzle = morning.getTodaysPuzzle().orElseThrow();
+
+        assertThat(puzzle.date()).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(puzzle.number()).isEqualTo(69);
+        assertThat(puzzle.isoCode()).isEqualTo("C" + puzzle.countryId());
+        assertThat(puzzle.expiresAt()).isEqualTo(Instant.parse("2025-03-11T00:00:00Z"));
+        assertThat(morning.getTodaysPuzzle()).containsSame(puzzle);
+        assertThat(evening.getTodaysPuzzle().orElseThrow().countryId()).isEqualTo(puzzle.countryId());
+        assertThat(evening.getSecondsUntilRollover(puzzle)).isEqualTo(30);
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should not repeat a located country within a rotation cycle")
+    @Tag("unit")
+    void shouldNotRepeatWithinCycle() {
+        given(countryRepository.findAll()).willReturn(countries);
+        Set<Long> picked = new HashSet<>();
+        for (int day = 0; day < 12; day++) {
+            picked.add(pickOn(EPOCH.plusDays(day), 42L));
+        }
+
+        assertThat(picked).hasSize(12).doesNotContain(99L);
+    }
+
+    @Test
+    @DisplayName("Should derive the sequence from the seed only")
+    @Tag("unit")
+    void shouldDeriveSequenceFromSeed() {
+        given(countryRepository.findAll()).willReturn(countries);
+        List<Long> first = new ArrayList<>();
+        List<Long> replay = new ArrayList<>();
+        List<Long> otherSeed = new ArrayList<>();
+        for (int day = 0; day < 24; day++) {
+            first.add(pickOn(EPOCH.plusDays(day), 42L));
+            replay.add(pickOn(EPOCH.plusDays(day), 42L));
+            otherSeed.add(pickOn(EPOCH.plusDays(day), 7L));
+        }
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(otherSeed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should keep the rest of the cycle when a country is added mid-cycle")
+    @Tag("unit")
+    void shouldKeepScheduleWhenCountryAdded() {
+        List<Country> grown = new ArrayList<>(countries);
+        Country added = createTestCountry("Country 13", "C13");
+        added.setId(13L);
+        added.setLatitude(65.0);
+        added.setLongitude(130.0);
+        grown.add(added);
+        given(countryRepository.findAll()).willReturn(countries, grown);
+
+        List<Long> planned = new ArrayList<>();
+        for (int day = 0; day < 12; day++) {
+            planned.add(pickOn(EPOCH.plusDays(day), 42L));
+        }
+        countryService.refreshSnapshot();
+
+        for (int day = 5; day < 12; day++) {
+            assertThat(pickOn(EPOCH.plusDays(day), 42L)).as("day %d", day).isEqualTo(planned.get(day));
+        }
+        Set<Long> nextCycle = new HashSet<>();
+        for (int day = 12; day < 25; day++) {
+            nextCycle.add(pickOn(EPOCH.plusDays(day), 42L));
+        }
+        assertThat(nextCycle).hasSize(13).contains(13L);
+    }
+
+    @Test
+    @DisplayName("Should give a deleted country's day to the next surviving one")
+    @Tag("unit")
+    void shouldSkipDeletedCountry() {
+        List<Long> planned = new ArrayList<>();
+        List<Country> shrunk = new ArrayList<>(countries);
+        given(countryRepository.findAll()).willReturn(countries, shrunk);
+        for (int day = 0; day < 12; day++) {
+            planned.add(pickOn(EPOCH.plusDays(day), 42L));
+        }
+        shrunk.removeIf(country -> country.getId().equals(planned.get(7)));
+        countryService.refreshSnapshot();
+
+        assertThat(pickOn(EPOCH.plusDays(6), 42L)).isEqualTo(planned.get(6));
+        assertThat(pickOn(EPOCH.plusDays(7), 42L)).isEqualTo(planned.get(8));
+        assertThat(pickOn(EPOCH.plusDays(8), 42L)).isEqualTo(planned.get(8));
+        assertThat(pickOn(EPOCH.plusDays(11), 42L)).isEqualTo(planned.get(11));
+    }
+
+    @Test
+    @DisplayName("Should return empty when no country has coordinates")
+    @Tag("unit")
+    void shouldReturnEmptyWithoutLocatedCountries() {
+        given(countryRepository.findAll()).willReturn(List.of(createTestCountry("Unlocated", "UNL")));
+
+        assertThat(service("2025-03-10T12:00:00Z", 42L).getTodaysPuzzle()).isEmpty();
+    }
+
+    private Long pickOn(LocalDate date, long seed) {
+        String instant = date.atStartOfDay(ZoneOffset.UTC).toInstant().toString();
+        return service(instant, seed).getTodaysPuzzle().orElseThrow().countryId();
+    }
+
+    private DailyPuzzleService service(String instant, long seed) {
+        Clock clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+        return new DailyPuzzleService(countryService, rotationStore(seed), clock, "UTC", EPOCH.toString(), seed);
+    }
+
+    private DailyRotationRepository rotationStore(long seed) {
+        TreeMap<Long, DailyRotation> byStartDay = rotations.computeIfAbsent(seed, key -> new TreeMap<>());
+        DailyRotationRepository repository = mock(DailyRotationRepository.class);
+        lenient().when(repository.findFirstByStartDayLessThanEqualOrderByStartDayDesc(anyLong())).thenAnswer(invocation ->
+            Optional.ofNullable(byStartDay.floorEntry(invocation.getArgument(0))).map(Map.Entry::getValue));
+        lenient().when(repository.save(any(DailyRotation.class))).thenAnswer(invocation -> {
+            DailyRotation rotation = invocation.getArgument(0);
+            byStartDay.put(rotation.getStartDay(), rotation);
+            return rotation;
+        });
+        return repository;
+    }
+}
\ No newline at end of file
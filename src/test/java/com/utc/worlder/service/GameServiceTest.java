@@ -0,0 +1,118 @@
+package com.utc.worlder.service;
+
+import com.utc.worlder.config.AbstractTestBase;
+import com.utc.worlder.dto.GuessFeedback;
+import com.utc.worlder.dto.GuessFeedback.Match;
+import com.utc.worlder.dto.GuessFeedback.Trend;
+import com.utc.worlder.dto.GuessResponse;
+import com.utc.worlder.entity.Country;
+import com.utc.worlder.repository.CountryRepository;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Game Service Tests")
+class GameServiceTest extends AbstractTestBase {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        Country france = country(1L, "France", "FRA", 67_390_000L, 643_801.0, 46.2276, 2.2137);
+        Country germany = country(2L, "Germany", "DEU", 83_190_556L, 357_592.0, 51.1657, 10.4515);
+        Country japan = country(3L, "Japan", "JPN", 125_800_000L, 377_975.0, null, null);
+        japan.setContinent("Asia");
+        japan.setCurrency("Yen");
+        japan.setOfficialLanguage("Japanese");
+        given(countryRepository.findAll()).willReturn(List.of(france, germany, japan));
+
+        gameService = new GameService(new CountryService(countryRepository));
+    }
+
+    @Test
+    @DisplayName("Should compare every attribute from the target's side")
+    @Tag("unit")
+    void shouldCompareAttributesFromTargetSide() {
+        GuessResponse response = gameService.evaluate("FRA", List.of("DEU")).orElseThrow();
+
+        GuessFeedback feedback = response.results().get(0);
+        assertThat(response.solved()).isFalse();
+        assertThat(feedback.known()).isTrue();
+        assertThat(feedback.correct()).isFalse();
+        assertThat(feedback.distanceKm()).isEqualTo(816);
+        assertThat(feedback.direction()).isEqualTo("SW");
+        assertThat(feedback.proximity()).isEqualTo(95);
+        assertThat(feedback.continent()).isEqualTo(Match.SAME);
+        assertThat(feedback.population()).isEqualTo(Trend.LOWER);
+        assertThat(feedback.area()).isEqualTo(Trend.HIGHER);
+        assertThat(feedback.currency()).isEqualTo(Match.SAME);
+        assertThat(feedback.officialLanguage()).isEqualTo(Match.SAME);
+    }
+
+    @Test
+    @DisplayName("Should score a batch of guesses in request order")
+    @Tag("unit")
+    void shouldScoreBatchInRequestOrder() {
+        GuessResponse response = gameService.evaluate("FRA", List.of("JPN", "XXX", "FRA")).orElseThrow();
+
+        assertThat(response.solved()).isTrue();
+        assertThat(response.results())
+            .extracting(GuessFeedback::guess, GuessFeedback::known, GuessFeedback::correct)
+            .containsExactly(
+                tuple("JPN", true, false),
+                tuple("XXX", false, false),
+                tuple("FRA", true, true));
+
+        GuessFeedback japan = response.results().get(0);
+        assertThat(japan.distanceKm()).isNull();
+        assertThat(japan.continent()).isEqualTo(Match.DIFFERENT);
+        assertThat(japan.officialLanguage()).isEqualTo(Match.DIFFERENT);
+
+        GuessFeedback exact = response.results().get(2);
+        assertThat(exact.distanceKm()).isZero();
+        assertThat(exact.proximity()).isEqualTo(100);
+        assertThat(exact.direction()).isNull();
+        assertThat(exact.population()).isEqualTo(Trend.EQUAL);
+    }
+
+    @Test
+    @DisplayName("Should leave distance and proximity empty for a correct guess of an unlocated country")
+    @Tag("unit")
+    void shouldLeaveDistanceEmptyForCorrectUnlocatedGuess() {
+        GuessFeedback exact = gameService.evaluate("JPN", List.of("JPN")).orElseThrow().results().get(0);
+
+        assertThat(exact.correct()).isTrue();
+        assertThat(exact.distanceKm()).isNull();
+        assertThat(exact.proximity()).isNull();
+        assertThat(exact.direction()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown target without touching the repository again")
+    @Tag("unit")
+    void shouldReturnEmptyForUnknownTarget() {
+        assertThat(gameService.evaluate("XXX", List.of("FRA"))).isEmpty();
+
+        gameService.evaluate("FRA", List.of("DEU", "JPN"));
+
+        verify(countryRepository, times(1)).findAll();
+    }
+
+    private Country country(Long id, String name, String isoCode, Long population, Double area,
+                            Double latitude, Double longitude) {
+        Country country = createTestCountry(name, isoCode);
+        country.setId(id);
+        country.setPopulation(population);
+        country.setArea(area);
+        country.setLatitude(latitude);
+        country.setLongitude(longitude);
+        return country;
+    }
+}
\ No newline at end of file